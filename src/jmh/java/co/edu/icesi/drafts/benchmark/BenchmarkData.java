@@ -0,0 +1,55 @@
+package co.edu.icesi.drafts.benchmark;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.model.IcesiDocument;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.model.IcesiUser;
+import co.edu.icesi.drafts.model.TimeOrderedUUIDGenerator;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+final class BenchmarkData {
+
+    static final UUID SEEDED_USER_ID = UUID.fromString("fd127023-e154-4ff2-a9e2-fbd648735d80");
+
+    private static final String TEXT = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore. ";
+
+    private BenchmarkData() {
+    }
+
+    static String text(int repetitions) {
+        return TEXT.repeat(repetitions);
+    }
+
+    static List<IcesiDocument> documents(int size) {
+        var user = IcesiUser.builder().icesiUserId(SEEDED_USER_ID).build();
+        return IntStream.range(0, size)
+                .mapToObj(index -> IcesiDocument.builder()
+                        .icesiDocumentId(TimeOrderedUUIDGenerator.next())
+                        .title("Document " + index)
+                        .text(text(5))
+                        .status(IcesiDocumentStatus.DRAFT)
+                        .icesiUser(user)
+                        .version(0L)
+                        .build())
+                .toList();
+    }
+
+    static List<IcesiDocumentDTO> newDocumentDTOs(String titlePrefix, int size) {
+        return IntStream.range(0, size)
+                .mapToObj(index -> newDocumentDTO(titlePrefix + "-" + index))
+                .toList();
+    }
+
+    static IcesiDocumentDTO newDocumentDTO(String title) {
+        return IcesiDocumentDTO.builder()
+                .title(title)
+                .text(text(5))
+                .status(IcesiDocumentStatus.DRAFT)
+                .userId(SEEDED_USER_ID)
+                .build();
+    }
+
+}
@@ -0,0 +1,81 @@
+package co.edu.icesi.drafts.benchmark;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.mapper.IcesiDocumentMapperImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IcesiDocumentCodecBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    @Param({"json", "json-gzip", "smile", "cbor"})
+    private String format;
+
+    private boolean gzip;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<IcesiDocumentDTO> documents;
+    private byte[] payload;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = switch (format) {
+            case "smile" -> SmileMapper.builder().findAndAddModules().build();
+            case "cbor" -> CBORMapper.builder().findAndAddModules().build();
+            default -> JsonMapper.builder().findAndAddModules().build();
+        };
+        gzip = format.endsWith("-gzip");
+        var listType = objectMapper.getTypeFactory().constructCollectionType(List.class, IcesiDocumentDTO.class);
+        writer = objectMapper.writerFor(listType);
+        reader = objectMapper.readerFor(listType);
+        var documentMapper = new IcesiDocumentMapperImpl();
+        documents = BenchmarkData.documents(size).stream().map(documentMapper::fromIcesiDocument).toList();
+        payload = encode();
+        System.out.printf("%npayload: format=%s documents=%d bytes=%d%n", format, size, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        if (gzip) {
+            try (var outputStream = new GZIPOutputStream(bytes)) {
+                writer.writeValue(outputStream, documents);
+            }
+        } else {
+            writer.writeValue(bytes, documents);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<IcesiDocumentDTO> decode() throws IOException {
+        if (gzip) {
+            try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+                return reader.readValue(inputStream);
+            }
+        }
+        return reader.readValue(payload);
+    }
+
+}
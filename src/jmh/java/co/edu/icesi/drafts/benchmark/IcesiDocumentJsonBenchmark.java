@@ -0,0 +1,49 @@
+package co.edu.icesi.drafts.benchmark;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.mapper.IcesiDocumentMapperImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IcesiDocumentJsonBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+    private List<IcesiDocumentDTO> documents;
+
+    @Setup
+    public void setup() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, IcesiDocumentDTO.class));
+        var documentMapper = new IcesiDocumentMapperImpl();
+        documents = BenchmarkData.documents(size).stream().map(documentMapper::fromIcesiDocument).toList();
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(documents);
+    }
+
+    @Benchmark
+    public void writeToStream() throws IOException {
+        listWriter.writeValue(OutputStream.nullOutputStream(), documents);
+    }
+
+}
@@ -0,0 +1,51 @@
+package co.edu.icesi.drafts.benchmark;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.mapper.IcesiDocumentMapper;
+import co.edu.icesi.drafts.mapper.IcesiDocumentMapperImpl;
+import co.edu.icesi.drafts.model.IcesiDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IcesiDocumentMapperBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private IcesiDocumentMapper documentMapper;
+    private IcesiDocument document;
+    private IcesiDocumentDTO documentDTO;
+    private List<IcesiDocument> documents;
+
+    @Setup
+    public void setup() {
+        documentMapper = new IcesiDocumentMapperImpl();
+        documents = BenchmarkData.documents(size);
+        document = documents.get(0);
+        documentDTO = documentMapper.fromIcesiDocument(document);
+    }
+
+    @Benchmark
+    public IcesiDocumentDTO fromIcesiDocument() {
+        return documentMapper.fromIcesiDocument(document);
+    }
+
+    @Benchmark
+    public IcesiDocument fromIcesiDocumentDTO() {
+        return documentMapper.fromIcesiDocumentDTO(documentDTO);
+    }
+
+    @Benchmark
+    public List<IcesiDocumentDTO> fromIcesiDocumentList() {
+        return documents.stream().map(documentMapper::fromIcesiDocument).toList();
+    }
+
+}
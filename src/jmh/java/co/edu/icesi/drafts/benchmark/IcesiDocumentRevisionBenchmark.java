@@ -0,0 +1,94 @@
+package co.edu.icesi.drafts.benchmark;
+
+import co.edu.icesi.drafts.model.CompressedTextConverter;
+import co.edu.icesi.drafts.revision.TextDelta;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IcesiDocumentRevisionBenchmark {
+
+    private static final int DELTA_RECORD_BYTES = 2 * Integer.BYTES;
+
+    @Param({"5", "100"})
+    private int textRepetitions;
+
+    @Param({"4", "16", "64"})
+    private int snapshotInterval;
+
+    private String snapshot;
+    private byte[] compressedSnapshot;
+    private String previous;
+    private String next;
+    private List<TextDelta> chain;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        var versions = new ArrayList<String>(snapshotInterval);
+        versions.add(BenchmarkData.text(textRepetitions));
+        for (int index = 1; index < snapshotInterval; index++) {
+            versions.add(edit(versions.get(index - 1), random));
+        }
+        snapshot = versions.get(0);
+        compressedSnapshot = CompressedTextConverter.compress(snapshot);
+        chain = new ArrayList<>(snapshotInterval - 1);
+        var deltaBytes = 0L;
+        var fullCopyBytes = 0L;
+        for (int index = 1; index < versions.size(); index++) {
+            var delta = TextDelta.diff(versions.get(index - 1), versions.get(index));
+            chain.add(delta);
+            deltaBytes += DELTA_RECORD_BYTES + CompressedTextConverter.compress(delta.inserted()).length;
+            fullCopyBytes += CompressedTextConverter.compress(versions.get(index)).length;
+        }
+        previous = versions.get(versions.size() - 2);
+        next = versions.get(versions.size() - 1);
+        var revisions = Math.max(1, chain.size());
+        System.out.printf("%nstorage per revision: delta=%d bytes, full copy=%d bytes, snapshot=%d bytes%n",
+                deltaBytes / revisions, fullCopyBytes / revisions, compressedSnapshot.length);
+    }
+
+    @Benchmark
+    public TextDelta diff() {
+        return TextDelta.diff(previous, next);
+    }
+
+    @Benchmark
+    public String reconstructDeepestRevision() {
+        var text = snapshot;
+        for (var delta : chain) {
+            text = delta.apply(text);
+        }
+        return text;
+    }
+
+    @Benchmark
+    public String decompressSnapshot() {
+        return CompressedTextConverter.decompress(compressedSnapshot);
+    }
+
+    @Benchmark
+    public String reconstructFromSnapshot() {
+        var text = CompressedTextConverter.decompress(compressedSnapshot);
+        for (var delta : chain) {
+            text = delta.apply(text);
+        }
+        return text;
+    }
+
+    private static String edit(String text, Random random) {
+        var start = random.nextInt(text.length());
+        var end = Math.min(text.length(), start + random.nextInt(20));
+        return text.substring(0, start) + "edit " + random.nextInt(1000) + text.substring(end);
+    }
+
+}
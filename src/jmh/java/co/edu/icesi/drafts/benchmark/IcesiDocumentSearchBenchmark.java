@@ -0,0 +1,77 @@
+package co.edu.icesi.drafts.benchmark;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentSummaryDTO;
+import co.edu.icesi.drafts.index.IcesiDocumentSearchIndex;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.model.TimeOrderedUUIDGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class IcesiDocumentSearchBenchmark {
+
+    private static final int VOCABULARY_SIZE = 50_000;
+    private static final int TERMS_PER_DOCUMENT = 20;
+
+    @Param({"100000", "1000000"})
+    private int documents;
+
+    @Param({"10", "100"})
+    private int limit;
+
+    private IcesiDocumentSearchIndex searchIndex;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        var random = new Random(42);
+        searchIndex = new IcesiDocumentSearchIndex(null);
+        for (int index = 0; index < documents; index++) {
+            var text = new StringBuilder(BenchmarkData.text(1));
+            for (int term = 0; term < TERMS_PER_DOCUMENT; term++) {
+                text.append(' ').append(word(zipf(random)));
+            }
+            searchIndex.index(IcesiDocumentDTO.builder()
+                    .icesiDocumentId(TimeOrderedUUIDGenerator.next())
+                    .title("Document " + word(zipf(random)))
+                    .text(text.toString())
+                    .status(index % 4 == 0 ? IcesiDocumentStatus.APPROVED : IcesiDocumentStatus.DRAFT)
+                    .userId(BenchmarkData.SEEDED_USER_ID)
+                    .version(0L)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<IcesiDocumentSummaryDTO> searchCommonTerm() {
+        return searchIndex.search("lorem", null, null, limit);
+    }
+
+    @Benchmark
+    public List<IcesiDocumentSummaryDTO> searchRareTerm() {
+        return searchIndex.search(word(VOCABULARY_SIZE - 1), null, null, limit);
+    }
+
+    @Benchmark
+    public List<IcesiDocumentSummaryDTO> searchTwoTermsWithStatus() {
+        return searchIndex.search("lorem " + word(10), IcesiDocumentStatus.APPROVED, null, limit);
+    }
+
+    // Skewed towards low ranks so a few terms have huge postings and most are rare, like natural text.
+    private static int zipf(Random random) {
+        return (int) Math.min(VOCABULARY_SIZE - 1, Math.floor(Math.pow(VOCABULARY_SIZE, random.nextDouble())) - 1);
+    }
+
+    private static String word(int rank) {
+        return "term" + rank;
+    }
+
+}
@@ -0,0 +1,87 @@
+package co.edu.icesi.drafts.benchmark;
+
+import co.edu.icesi.drafts.DraftsApplication;
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.service.IcesiDocumentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class IcesiDocumentServiceBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int documentsPerCall;
+
+    @Param({"50", "500"})
+    private int jdbcBatchSize;
+
+    private final AtomicLong titles = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private IcesiDocumentService documentService;
+    private JdbcTemplate jdbcTemplate;
+    private IcesiDocumentDTO updateTarget;
+    private String updateTargetId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(DraftsApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize
+                )
+                .run();
+        documentService = context.getBean(IcesiDocumentService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void createUpdateTarget() {
+        updateTarget = documentService.createDocument(BenchmarkData.newDocumentDTO(nextTitle()));
+        updateTargetId = updateTarget.getIcesiDocumentId().toString();
+        updateTarget.setVersion(null);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteDocuments() {
+        jdbcTemplate.update("delete from icesi_document");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public IcesiDocumentDTO createDocument() {
+        return documentService.createDocument(BenchmarkData.newDocumentDTO(nextTitle()));
+    }
+
+    @Benchmark
+    public List<IcesiDocumentDTO> createDocuments() {
+        return documentService.createDocuments(BenchmarkData.newDocumentDTOs(nextTitle(), documentsPerCall));
+    }
+
+    @Benchmark
+    public IcesiDocumentDTO updateDocument() {
+        updateTarget.setText(BenchmarkData.text(1) + titles.incrementAndGet());
+        return documentService.updateDocument(updateTargetId, updateTarget);
+    }
+
+    private String nextTitle() {
+        return "Benchmark " + titles.incrementAndGet();
+    }
+
+}
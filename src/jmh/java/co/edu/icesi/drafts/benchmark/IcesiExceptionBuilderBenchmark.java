@@ -0,0 +1,62 @@
+package co.edu.icesi.drafts.benchmark;
+
+import co.edu.icesi.drafts.error.exception.DetailBuilder;
+import co.edu.icesi.drafts.error.exception.ErrorCode;
+import co.edu.icesi.drafts.error.exception.IcesiError;
+import co.edu.icesi.drafts.error.exception.IcesiException;
+import co.edu.icesi.drafts.error.util.IcesiExceptionBuilder;
+import co.edu.icesi.drafts.error.util.ValidationResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IcesiExceptionBuilderBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int detailCount;
+
+    private DetailBuilder[] details;
+    private UUID[] userIds;
+
+    @Setup
+    public void setup() {
+        userIds = IntStream.range(0, detailCount).mapToObj(index -> UUID.randomUUID()).toArray(UUID[]::new);
+        details = IntStream.range(0, detailCount)
+                .mapToObj(index -> new DetailBuilder(ErrorCode.ERR_404, "User", "Id", userIds[index]))
+                .toArray(DetailBuilder[]::new);
+    }
+
+    @Benchmark
+    public IcesiError createIcesiError() {
+        return IcesiExceptionBuilder.createIcesiError("Documents couldn't be created", HttpStatus.BAD_REQUEST, details);
+    }
+
+    @Benchmark
+    public IcesiException createIcesiException() {
+        return IcesiExceptionBuilder.createIcesiException("Documents couldn't be created", details).get();
+    }
+
+    @Benchmark
+    public IcesiException validationResult() {
+        var result = new ValidationResult();
+        for (var userId : userIds) {
+            result.add(ErrorCode.ERR_404, "User", "Id", userId);
+        }
+        try {
+            result.throwIfInvalid("Documents couldn't be created");
+            return null;
+        } catch (IcesiException e) {
+            return e;
+        }
+    }
+
+}
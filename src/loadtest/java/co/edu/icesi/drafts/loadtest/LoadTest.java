@@ -0,0 +1,227 @@
+package co.edu.icesi.drafts.loadtest;
+
+import co.edu.icesi.drafts.DraftsApplication;
+import co.edu.icesi.drafts.admission.IcesiAdmissionControl;
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.model.IcesiUser;
+import co.edu.icesi.drafts.repository.IcesiUserRepository;
+import co.edu.icesi.drafts.service.IcesiDocumentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+public class LoadTest {
+
+    private static final int SEED_CHUNK_SIZE = 1000;
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Map<LoadTestOperation, OperationStats> stats = new EnumMap<>(LoadTestOperation.class);
+    private final AtomicLong titles = new AtomicLong();
+    private final LoadTestOperation[] operations;
+    private final int[] cumulativeWeights;
+    private List<UUID> userIds;
+    private List<IcesiDocumentDTO> documents;
+    private URI baseUri;
+
+    LoadTest(LoadTestConfig config, ObjectMapper objectMapper) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(config.clients()))
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.operations = config.mix().keySet().toArray(LoadTestOperation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        var total = 0;
+        for (int index = 0; index < operations.length; index++) {
+            total += config.mix().get(operations[index]);
+            cumulativeWeights[index] = total;
+        }
+        Arrays.stream(LoadTestOperation.values()).forEach(operation -> stats.put(operation, new OperationStats()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        var config = LoadTestConfig.fromSystemProperties();
+        try (var context = start()) {
+            var loadTest = new LoadTest(config, context.getBean(ObjectMapper.class));
+            loadTest.seed(context);
+            var report = loadTest.run(((WebServerApplicationContext) context).getWebServer().getPort());
+            Files.createDirectories(config.report().toAbsolutePath().getParent());
+            context.getBean(ObjectMapper.class).writer(SerializationFeature.INDENT_OUTPUT).writeValue(config.report().toFile(), report);
+            System.out.println(context.getBean(ObjectMapper.class).writerWithDefaultPrettyPrinter().writeValueAsString(report.get("operations")));
+            System.out.println("Report written to " + config.report().toAbsolutePath());
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(DraftsApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.h2.console.enabled=false",
+                        "drafts.admission.enabled=" + System.getProperty("loadtest.admission", "true")
+                )
+                .run();
+    }
+
+    void seed(ConfigurableApplicationContext context) {
+        var users = IntStream.range(0, config.users())
+                .mapToObj(index -> IcesiUser.builder()
+                        .firstName("Load")
+                        .lastName("Test " + index)
+                        .code("LT" + index)
+                        .email("loadtest" + index + "@email.com")
+                        .phoneNumber("+57" + (300_000_0000L + index))
+                        .build())
+                .toList();
+        userIds = context.getBean(IcesiUserRepository.class).saveAll(users).stream().map(IcesiUser::getIcesiUserId).toList();
+        var documentService = context.getBean(IcesiDocumentService.class);
+        var seeded = new ArrayList<IcesiDocumentDTO>(config.documents());
+        for (int start = 0; start < config.documents(); start += SEED_CHUNK_SIZE) {
+            seeded.addAll(documentService.createDocuments(IntStream.range(start, Math.min(start + SEED_CHUNK_SIZE, config.documents()))
+                    .mapToObj(index -> newDocument())
+                    .toList()));
+        }
+        documents = List.copyOf(seeded);
+    }
+
+    Map<String, Object> run(int port) throws InterruptedException {
+        baseUri = URI.create("http://localhost:" + port);
+        drive(config.warmup());
+        stats.values().forEach(OperationStats::reset);
+        var started = System.nanoTime();
+        drive(config.duration());
+        var seconds = (System.nanoTime() - started) / 1e9;
+        return report(seconds);
+    }
+
+    private void drive(Duration duration) throws InterruptedException {
+        var deadline = System.nanoTime() + duration.toNanos();
+        var clients = Executors.newFixedThreadPool(config.clients());
+        for (int client = 0; client < config.clients(); client++) {
+            clients.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    execute(nextOperation());
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(duration.toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS);
+    }
+
+    private void execute(LoadTestOperation operation) {
+        var request = buildRequest(operation);
+        var started = System.nanoTime();
+        try {
+            var response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            stats.get(operation).record(System.nanoTime() - started, response.statusCode());
+        } catch (IOException e) {
+            stats.get(operation).recordFailure(System.nanoTime() - started);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpRequest buildRequest(LoadTestOperation operation) {
+        var random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case GET -> request("/documents/" + randomDocument().getIcesiDocumentId()).GET().build();
+            case LIST -> request("/documents?limit=" + config.pageSize() + "&after=" + randomDocument().getIcesiDocumentId()).GET().build();
+            case POST -> request("/documents").POST(json(newDocument())).build();
+            case PUT -> {
+                var document = randomDocument();
+                var update = IcesiDocumentDTO.builder()
+                        .title(document.getTitle())
+                        .text("Updated text " + random.nextLong())
+                        .status(IcesiDocumentStatus.DRAFT)
+                        .userId(document.getUserId())
+                        .build();
+                yield request("/documents/" + document.getIcesiDocumentId()).PUT(json(update)).build();
+            }
+            case BULK -> request("/documents/all")
+                    .POST(json(IntStream.range(0, config.bulkSize()).mapToObj(index -> newDocument()).toList()))
+                    .build();
+        };
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofMinutes(1))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .header(IcesiAdmissionControl.CLIENT_ID_HEADER, "loadtest-" + Thread.currentThread().getId());
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private LoadTestOperation nextOperation() {
+        var value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int index = 0; index < cumulativeWeights.length; index++) {
+            if (value < cumulativeWeights[index]) {
+                return operations[index];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private IcesiDocumentDTO randomDocument() {
+        return documents.get(ThreadLocalRandom.current().nextInt(documents.size()));
+    }
+
+    private IcesiDocumentDTO newDocument() {
+        return IcesiDocumentDTO.builder()
+                .title("Load test document " + titles.incrementAndGet())
+                .text("Load test text " + ThreadLocalRandom.current().nextLong())
+                .status(IcesiDocumentStatus.DRAFT)
+                .userId(userIds.get(ThreadLocalRandom.current().nextInt(userIds.size())))
+                .build();
+    }
+
+    private Map<String, Object> report(double seconds) {
+        var report = new LinkedHashMap<String, Object>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("clients", config.clients());
+        report.put("warmupSeconds", config.warmup().toSeconds());
+        report.put("durationSeconds", seconds);
+        report.put("mix", config.mix());
+        report.put("seededUsers", config.users());
+        report.put("seededDocuments", config.documents());
+        report.put("bulkSize", config.bulkSize());
+        var operationsReport = new LinkedHashMap<String, Object>();
+        stats.forEach((operation, operationStats) -> {
+            if (operationStats.getLatencies().getTotalCount() > 0) {
+                operationsReport.put(operation.name().toLowerCase(), operationStats.toReport(seconds));
+            }
+        });
+        report.put("operations", operationsReport);
+        report.put("total", OperationStats.merge(stats.values()).toReport(seconds));
+        return report;
+    }
+
+}
@@ -0,0 +1,39 @@
+package co.edu.icesi.drafts.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+record LoadTestConfig(int clients, Duration warmup, Duration duration, Map<LoadTestOperation, Integer> mix,
+                      int users, int documents, int bulkSize, int pageSize, Path report) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.clients", 32),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                parseMix(System.getProperty("loadtest.mix", "get=60,list=15,post=10,put=10,bulk=5")),
+                Integer.getInteger("loadtest.users", 50),
+                Integer.getInteger("loadtest.documents", 10_000),
+                Integer.getInteger("loadtest.bulk-size", 100),
+                Integer.getInteger("loadtest.page-size", 50),
+                Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"))
+        );
+    }
+
+    private static Map<LoadTestOperation, Integer> parseMix(String mix) {
+        var weights = new EnumMap<LoadTestOperation, Integer>(LoadTestOperation.class);
+        Arrays.stream(mix.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .map(entry -> entry.split("="))
+                .forEach(entry -> weights.put(LoadTestOperation.valueOf(entry[0].trim().toUpperCase()), Integer.parseInt(entry[1].trim())));
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("loadtest.mix needs at least one positive weight: " + mix);
+        }
+        return weights;
+    }
+
+}
@@ -0,0 +1,5 @@
+package co.edu.icesi.drafts.loadtest;
+
+enum LoadTestOperation {
+    GET, LIST, POST, PUT, BULK
+}
@@ -0,0 +1,72 @@
+package co.edu.icesi.drafts.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class OperationStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+
+    void record(long latencyNanos, int statusCode) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        statusCodes.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+        if (statusCode < 200 || statusCode >= 300) {
+            errors.increment();
+        }
+    }
+
+    void recordFailure(long latencyNanos) {
+        record(latencyNanos, 0);
+    }
+
+    void reset() {
+        latencies.reset();
+        errors.reset();
+        statusCodes.clear();
+    }
+
+    static OperationStats merge(Collection<OperationStats> stats) {
+        var merged = new OperationStats();
+        stats.forEach(operationStats -> {
+            merged.latencies.add(operationStats.latencies);
+            merged.errors.add(operationStats.errors.sum());
+            operationStats.statusCodes.forEach((code, total) ->
+                    merged.statusCodes.computeIfAbsent(code, key -> new LongAdder()).add(total.sum()));
+        });
+        return merged;
+    }
+
+    Map<String, Object> toReport(double seconds) {
+        var report = new LinkedHashMap<String, Object>();
+        var count = latencies.getTotalCount();
+        report.put("requests", count);
+        report.put("errors", errors.sum());
+        report.put("throughput", count / seconds);
+        report.put("meanMicros", latencies.getMean());
+        report.put("p50Micros", latencies.getValueAtPercentile(50));
+        report.put("p90Micros", latencies.getValueAtPercentile(90));
+        report.put("p99Micros", latencies.getValueAtPercentile(99));
+        report.put("p999Micros", latencies.getValueAtPercentile(99.9));
+        report.put("maxMicros", latencies.getMaxValue());
+        var codes = new LinkedHashMap<String, Long>();
+        statusCodes.forEach((code, total) -> codes.put(code == 0 ? "io-error" : code.toString(), total.sum()));
+        report.put("statusCodes", codes);
+        return report;
+    }
+
+    Histogram getLatencies() {
+        return latencies;
+    }
+
+}
@@ -0,0 +1,171 @@
+package co.edu.icesi.drafts.admission;
+
+import co.edu.icesi.drafts.error.exception.DetailBuilder;
+import co.edu.icesi.drafts.error.exception.ErrorCode;
+import co.edu.icesi.drafts.error.exception.IcesiRateLimitException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static co.edu.icesi.drafts.error.util.IcesiExceptionBuilder.createIcesiError;
+
+@Component
+public class IcesiAdmissionControl implements MeterBinder {
+
+    public enum Operation {
+        SINGLE, BULK
+    }
+
+    // The address comes from the connection and bounds everything a caller can do by rotating the
+    // client id header or the user ids in the body.
+    public record Client(String address, String id) {
+
+        public static Client of(HttpServletRequest request) {
+            return new Client(request.getRemoteAddr(), request.getHeader(CLIENT_ID_HEADER));
+        }
+    }
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private static final String ANONYMOUS = "anonymous";
+    private static final Duration BULKHEAD_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final boolean enabled;
+    private final double permitsPerSecond;
+    private final int burst;
+    private final double addressPermitsPerSecond;
+    private final int addressBurst;
+    private final Cache<String, TokenBucket> buckets;
+    private final Map<Operation, Semaphore> bulkheads = new EnumMap<>(Operation.class);
+    private final Map<Operation, Integer> concurrency = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> rateRejections = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> bulkheadRejections = new EnumMap<>(Operation.class);
+
+    public IcesiAdmissionControl(@Value("${drafts.admission.enabled:true}") boolean enabled,
+                                 @Value("${drafts.admission.permits-per-second:50}") double permitsPerSecond,
+                                 @Value("${drafts.admission.burst:100}") int burst,
+                                 @Value("${drafts.admission.address-permits-per-second:1000}") double addressPermitsPerSecond,
+                                 @Value("${drafts.admission.address-burst:2000}") int addressBurst,
+                                 @Value("${drafts.admission.single-concurrency:8}") int singleConcurrency,
+                                 @Value("${drafts.admission.bulk-concurrency:2}") int bulkConcurrency,
+                                 @Value("${drafts.admission.max-keys:100000}") long maxKeys,
+                                 @Value("${drafts.admission.idle-expiry:10m}") Duration idleExpiry) {
+        this.enabled = enabled;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.addressPermitsPerSecond = addressPermitsPerSecond;
+        this.addressBurst = addressBurst;
+        this.buckets = Caffeine.newBuilder().maximumSize(maxKeys).expireAfterAccess(idleExpiry).build();
+        concurrency.put(Operation.SINGLE, singleConcurrency);
+        concurrency.put(Operation.BULK, bulkConcurrency);
+        for (var operation : Operation.values()) {
+            bulkheads.put(operation, new Semaphore(concurrency.get(operation)));
+            rateRejections.put(operation, new LongAdder());
+            bulkheadRejections.put(operation, new LongAdder());
+        }
+    }
+
+    public void admit(Operation operation, Client client, Runnable action) {
+        admit(operation, client, Map.of(), () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T admit(Operation operation, Client client, UUID userId, Supplier<T> action) {
+        return admit(operation, client, userId == null ? Map.of() : Map.of(userId, 1), action);
+    }
+
+    public <T> T admit(Operation operation, Client client, Map<UUID, Integer> permitsByUser, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+        acquire(operation, client, permitsByUser.isEmpty() ? Collections.<UUID, Integer>singletonMap(null, 1) : permitsByUser);
+        var bulkhead = bulkheads.get(operation);
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejections.get(operation).increment();
+            throw rejected(operation.name().toLowerCase() + " writes", BULKHEAD_RETRY_AFTER);
+        }
+        try {
+            return action.get();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void acquire(Operation operation, Client client, Map<UUID, Integer> permitsByUser) {
+        var now = System.nanoTime();
+        var acquired = new ArrayList<Map.Entry<TokenBucket, Integer>>(permitsByUser.size() + 1);
+        var address = client.address() == null ? ANONYMOUS : client.address();
+        var total = permitsByUser.values().stream().mapToInt(Integer::intValue).sum();
+        charge(operation, address, buckets.get(address, ignored -> new TokenBucket(addressPermitsPerSecond, addressBurst)), total, now, acquired);
+        for (var entry : permitsByUser.entrySet()) {
+            var key = key(address, client.id(), entry.getKey());
+            charge(operation, key, buckets.get(key, ignored -> new TokenBucket(permitsPerSecond, burst)), entry.getValue(), now, acquired);
+        }
+    }
+
+    private void charge(Operation operation, String key, TokenBucket bucket, int permits, long now,
+                        List<Map.Entry<TokenBucket, Integer>> acquired) {
+        var waitNanos = bucket.tryAcquire(permits, now);
+        if (waitNanos > 0) {
+            acquired.forEach(charged -> charged.getKey().refund(charged.getValue()));
+            rateRejections.get(operation).increment();
+            throw rejected(key, Duration.ofNanos(waitNanos));
+        }
+        acquired.add(Map.entry(bucket, permits));
+    }
+
+    private String key(String address, String clientId, UUID userId) {
+        return address + "/" + (clientId == null || clientId.isBlank() ? ANONYMOUS : clientId) + "/" + (userId == null ? ANONYMOUS : userId);
+    }
+
+    private IcesiRateLimitException rejected(String subject, Duration retryAfter) {
+        var message = "Too many requests";
+        return new IcesiRateLimitException(message,
+                createIcesiError(message, HttpStatus.TOO_MANY_REQUESTS, new DetailBuilder(ErrorCode.ERR_429, subject)),
+                retryAfter);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("drafts.admission.buckets", buckets, Cache::estimatedSize)
+                .description("Rate limiter buckets currently tracked")
+                .register(registry);
+        for (var operation : Operation.values()) {
+            var tag = operation.name().toLowerCase();
+            var bulkhead = bulkheads.get(operation);
+            Gauge.builder("drafts.admission.bulkhead.active", bulkhead, semaphore -> concurrency.get(operation) - semaphore.availablePermits())
+                    .description("Write operations currently holding a bulkhead permit")
+                    .tag("operation", tag)
+                    .register(registry);
+            Gauge.builder("drafts.admission.bulkhead.limit", concurrency, limits -> limits.get(operation))
+                    .tag("operation", tag)
+                    .register(registry);
+            FunctionCounter.builder("drafts.admission.rejected", rateRejections.get(operation), LongAdder::sum)
+                    .description("Write requests rejected with 429")
+                    .tag("operation", tag)
+                    .tag("reason", "rate")
+                    .register(registry);
+            FunctionCounter.builder("drafts.admission.rejected", bulkheadRejections.get(operation), LongAdder::sum)
+                    .description("Write requests rejected with 429")
+                    .tag("operation", tag)
+                    .tag("reason", "bulkhead")
+                    .register(registry);
+        }
+    }
+
+}
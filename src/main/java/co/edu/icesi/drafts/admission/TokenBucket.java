@@ -0,0 +1,44 @@
+package co.edu.icesi.drafts.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(double permitsPerSecond, int capacity) {
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * Math.max(1, capacity);
+    }
+
+    // A request larger than the bucket is admitted only when the bucket is full and is charged in full,
+    // leaving the bucket in debt until the extra permits have been paid back at the refill rate.
+    public long tryAcquire(int permits, long nowNanos) {
+        var cost = intervalNanos * Math.max(1, permits);
+        var required = Math.min(cost, toleranceNanos);
+        while (true) {
+            var current = theoreticalArrival.get();
+            var start = Math.max(current, nowNanos);
+            var waitNanos = start + required - toleranceNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, start + cost)) {
+                return 0;
+            }
+        }
+    }
+
+    public void refund(int permits) {
+        theoreticalArrival.addAndGet(-intervalNanos * Math.max(1, permits));
+    }
+
+    public double available(long nowNanos) {
+        var current = theoreticalArrival.get();
+        var used = Math.max(0, Math.max(current, nowNanos) - nowNanos);
+        return (double) (toleranceNanos - used) / intervalNanos;
+    }
+
+}
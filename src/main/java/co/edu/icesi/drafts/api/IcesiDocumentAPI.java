@@ -1,26 +1,84 @@
 package co.edu.icesi.drafts.api;
 
+import co.edu.icesi.drafts.dto.IcesiDocumentAutosaveDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentBatchPatchDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentCountsDTO;
 import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentPageDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentPatchResultDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentSummaryDTO;
+import co.edu.icesi.drafts.dto.IcesiReadModelConsistencyDTO;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 @RequestMapping("/documents")
 public interface IcesiDocumentAPI {
 
     @GetMapping
-    List<IcesiDocumentDTO> getAllDocuments();
+    ResponseEntity<StreamingResponseBody> getAllDocuments(@RequestParam(required = false) IcesiDocumentStatus status,
+                                                          @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept);
+
+    @GetMapping(params = "limit")
+    IcesiDocumentPageDTO getDocuments(@RequestParam int limit, @RequestParam(required = false) UUID after,
+                                      @RequestParam(required = false) IcesiDocumentStatus status);
+
+    @GetMapping("/counts")
+    IcesiDocumentCountsDTO getDocumentCounts(@RequestParam(required = false) UUID userId);
+
+    @GetMapping("/read-model/consistency")
+    IcesiReadModelConsistencyDTO checkReadModelConsistency();
+
+    @GetMapping("/search")
+    List<IcesiDocumentSummaryDTO> searchDocuments(@RequestParam("q") String query,
+                                           @RequestParam(required = false) IcesiDocumentStatus status,
+                                           @RequestParam(required = false) UUID userId,
+                                           @RequestParam(defaultValue = "20") int limit);
+
+    @GetMapping("/export")
+    ResponseEntity<StreamingResponseBody> exportDocuments(@RequestParam(defaultValue = "ndjson") String format,
+                                                          @RequestParam(required = false) IcesiDocumentStatus status,
+                                                          @RequestParam(required = false) UUID userId,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to);
+
+    @GetMapping("/{documentId}")
+    ResponseEntity<IcesiDocumentDTO> getDocument(@PathVariable String documentId, WebRequest request);
 
     @PostMapping
-    IcesiDocumentDTO createDocument(@Valid @RequestBody IcesiDocumentDTO documentDTO);
+    IcesiDocumentDTO createDocument(HttpServletRequest request,
+                                    @Valid @RequestBody IcesiDocumentDTO documentDTO);
 
     @PostMapping("/all")
-    List<IcesiDocumentDTO> createDocuments(@Valid @RequestBody List<IcesiDocumentDTO> documentDTOS);
+    List<IcesiDocumentDTO> createDocuments(HttpServletRequest request,
+                                           @Valid @RequestBody List<IcesiDocumentDTO> documentDTOS);
+
+    @PatchMapping
+    List<IcesiDocumentPatchResultDTO> patchDocuments(HttpServletRequest request,
+                                                     @Valid @RequestBody IcesiDocumentBatchPatchDTO patch);
 
     @PutMapping("/{documentId}")
-    IcesiDocumentDTO updateDocument(@PathVariable String documentId, @Valid @RequestBody IcesiDocumentDTO documentDTO);
+    ResponseEntity<IcesiDocumentDTO> updateDocument(@PathVariable String documentId,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                    HttpServletRequest request,
+                                                    @Valid @RequestBody IcesiDocumentDTO documentDTO);
 
+    @PutMapping("/{documentId}/autosave")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    void autosaveDocument(@PathVariable String documentId,
+                          HttpServletRequest request,
+                          @Valid @RequestBody IcesiDocumentAutosaveDTO autosaveDTO);
 
 
 }
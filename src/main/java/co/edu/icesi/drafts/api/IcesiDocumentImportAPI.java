@@ -0,0 +1,21 @@
+package co.edu.icesi.drafts.api;
+
+import co.edu.icesi.drafts.dto.IcesiImportJobDTO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import javax.servlet.http.HttpServletRequest;
+
+@RequestMapping("/documents/imports")
+public interface IcesiDocumentImportAPI {
+
+    @PostMapping(consumes = "application/x-ndjson")
+    ResponseEntity<IcesiImportJobDTO> startImport(HttpServletRequest request);
+
+    @GetMapping("/{jobId}")
+    IcesiImportJobDTO getImport(@PathVariable String jobId);
+
+}
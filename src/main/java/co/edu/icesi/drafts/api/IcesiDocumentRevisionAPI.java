@@ -0,0 +1,20 @@
+package co.edu.icesi.drafts.api;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentRevisionDTO;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+
+@RequestMapping("/documents/{documentId}/revisions")
+public interface IcesiDocumentRevisionAPI {
+
+    @GetMapping
+    List<IcesiDocumentRevisionDTO> getRevisions(@PathVariable String documentId);
+
+    @GetMapping("/{version}")
+    IcesiDocumentDTO getRevision(@PathVariable String documentId, @PathVariable long version);
+
+}
@@ -0,0 +1,21 @@
+package co.edu.icesi.drafts.api;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentPageDTO;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.UUID;
+
+@RequestMapping("/users")
+public interface IcesiUserAPI {
+
+    @GetMapping("/{userId}/documents")
+    IcesiDocumentPageDTO getUserDocuments(@PathVariable String userId,
+                                          @RequestParam(defaultValue = "50") int limit,
+                                          @RequestParam(required = false) UUID after,
+                                          @RequestParam(required = false) IcesiDocumentStatus status);
+
+}
@@ -0,0 +1,167 @@
+package co.edu.icesi.drafts.autosave;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.event.IcesiDocumentChange;
+import co.edu.icesi.drafts.event.IcesiDocumentsChangedEvent;
+import co.edu.icesi.drafts.model.CompressedTextConverter;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class IcesiDocumentAutosaveBuffer {
+
+    private static final String UPDATE_TEXT = "update icesi_document set text = ?, version = version + 1 " +
+            "where icesi_document_id = ? and version = ? and status in (" + Arrays.stream(IcesiDocumentStatus.values())
+            .filter(IcesiDocumentStatus::isEditable)
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", ")) + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IcesiDocumentRepository documentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int maxPending;
+    private final int batchSize;
+    private final Map<UUID, String> pending = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    public IcesiDocumentAutosaveBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                       IcesiDocumentRepository documentRepository, ApplicationEventPublisher eventPublisher,
+                                       @Value("${drafts.autosave.enabled:false}") boolean enabled,
+                                       @Value("${drafts.autosave.max-pending:1000}") int maxPending,
+                                       @Value("${drafts.autosave.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.documentRepository = documentRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isPending(UUID documentId) {
+        return pending.containsKey(documentId);
+    }
+
+    public Optional<String> findPendingText(UUID documentId) {
+        return Optional.ofNullable(pending.get(documentId));
+    }
+
+    public void autosave(UUID documentId, String text) {
+        pending.put(documentId, text);
+        if (!enabled) {
+            flush(List.of(documentId));
+        } else if (pending.size() >= maxPending) {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${drafts.autosave.flush-interval:PT2S}")
+    public void flush() {
+        flush(List.copyOf(pending.keySet()));
+    }
+
+    // Joins the caller's transaction when there is one. The lock is taken once the transaction holds its
+    // connection, so a thread waiting for it never waits for the pool as well.
+    public void flush(Collection<UUID> documentIds) {
+        if (documentIds.stream().noneMatch(pending::containsKey)) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(transaction -> {
+            synchronized (writeLock) {
+                write(documentIds);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private void write(Collection<UUID> documentIds) {
+        var texts = new LinkedHashMap<UUID, String>();
+        for (var documentId : documentIds) {
+            Optional.ofNullable(pending.remove(documentId)).ifPresent(text -> texts.put(documentId, text));
+        }
+        if (texts.isEmpty()) {
+            return;
+        }
+        restoreOnRollback(texts);
+        var documents = new ArrayList<IcesiDocumentDTO>(texts.size());
+        for (var document : documentRepository.findDocumentDTOsByIds(texts.keySet())) {
+            if (document.getStatus().isEditable()) {
+                documents.add(document);
+            } else {
+                log.warn("Dropped autosaved text for document {}: it is {} and no longer editable",
+                        document.getIcesiDocumentId(), document.getStatus());
+            }
+        }
+        var counts = jdbcTemplate.batchUpdate(UPDATE_TEXT, documents, batchSize, (statement, document) -> {
+            statement.setBytes(1, CompressedTextConverter.compress(texts.get(document.getIcesiDocumentId())));
+            statement.setBytes(2, toBytes(document.getIcesiDocumentId()));
+            statement.setLong(3, document.getVersion());
+        });
+        var changes = new ArrayList<IcesiDocumentChange>(documents.size());
+        for (int index = 0; index < documents.size(); index++) {
+            var before = documents.get(index);
+            var text = texts.get(before.getIcesiDocumentId());
+            // The row changed version or status after it was read; keep the text so the next flush re-reads it.
+            if (counts[index / batchSize][index % batchSize] != 1) {
+                pending.putIfAbsent(before.getIcesiDocumentId(), text);
+                continue;
+            }
+            changes.add(new IcesiDocumentChange(before, IcesiDocumentDTO.builder()
+                    .icesiDocumentId(before.getIcesiDocumentId())
+                    .title(before.getTitle())
+                    .text(text)
+                    .status(before.getStatus())
+                    .userId(before.getUserId())
+                    .version(before.getVersion() + 1)
+                    .build()));
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new IcesiDocumentsChangedEvent(changes));
+        }
+    }
+
+    private void restoreOnRollback(Map<UUID, String> texts) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    texts.forEach(pending::putIfAbsent);
+                }
+            }
+        });
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+}
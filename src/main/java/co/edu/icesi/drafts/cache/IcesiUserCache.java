@@ -0,0 +1,155 @@
+package co.edu.icesi.drafts.cache;
+
+import co.edu.icesi.drafts.model.IcesiUser;
+import co.edu.icesi.drafts.repository.IcesiUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Component
+public class IcesiUserCache implements MeterBinder {
+
+    private final IcesiUserRepository userRepository;
+    private final Cache<UUID, CachedUser> usersById;
+    private final Cache<String, UUID> userIdsByEmail;
+    private final Cache<String, UUID> userIdsByPhoneNumber;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    public IcesiUserCache(IcesiUserRepository userRepository,
+                          @Value("${drafts.cache.users.maximum-size:10000}") long maximumSize,
+                          @Value("${drafts.cache.users.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.usersById = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).build();
+        this.userIdsByEmail = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).build();
+        this.userIdsByPhoneNumber = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).build();
+    }
+
+    public Optional<IcesiUser> findById(UUID userId) {
+        return lookup(usersById.getIfPresent(userId), () -> userRepository.findById(userId));
+    }
+
+    public Optional<IcesiUser> findByEmail(String email) {
+        var cached = Optional.ofNullable(userIdsByEmail.getIfPresent(email))
+                .map(usersById::getIfPresent)
+                .filter(user -> email.equals(user.email()))
+                .orElse(null);
+        return lookup(cached, () -> userRepository.findByEmail(email));
+    }
+
+    public Optional<IcesiUser> findByPhoneNumber(String phoneNumber) {
+        var cached = Optional.ofNullable(userIdsByPhoneNumber.getIfPresent(phoneNumber))
+                .map(usersById::getIfPresent)
+                .filter(user -> phoneNumber.equals(user.phoneNumber()))
+                .orElse(null);
+        return lookup(cached, () -> userRepository.findByPhoneNumber(phoneNumber));
+    }
+
+    public Map<UUID, IcesiUser> findAllById(Collection<UUID> userIds) {
+        var users = new HashMap<UUID, IcesiUser>();
+        usersById.getAllPresent(userIds).forEach((userId, user) -> users.put(userId, user.toUser()));
+        hits.add(users.size());
+        var missing = userIds.stream().filter(userId -> !users.containsKey(userId)).toList();
+        if (!missing.isEmpty()) {
+            misses.add(missing.size());
+            userRepository.findAllById(missing).stream()
+                    .map(this::put)
+                    .forEach(user -> users.put(user.getIcesiUserId(), user));
+        }
+        return users;
+    }
+
+    public void putAll(Collection<IcesiUser> users) {
+        users.forEach(this::put);
+    }
+
+    public void evict(IcesiUser user) {
+        var evicted = new ArrayList<CachedUser>(2);
+        Optional.ofNullable(usersById.getIfPresent(user.getIcesiUserId())).ifPresent(evicted::add);
+        evicted.add(CachedUser.from(user));
+        evicted.forEach(this::invalidate);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evicted.forEach(IcesiUserCache.this::invalidate);
+                }
+            });
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getSize() {
+        return usersById.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("drafts.cache.users.gets", hits, LongAdder::sum).tag("result", "hit").register(registry);
+        FunctionCounter.builder("drafts.cache.users.gets", misses, LongAdder::sum).tag("result", "miss").register(registry);
+        Gauge.builder("drafts.cache.users.size", this, IcesiUserCache::getSize).register(registry);
+    }
+
+    private Optional<IcesiUser> lookup(CachedUser cached, Supplier<Optional<IcesiUser>> loader) {
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached.toUser());
+        }
+        misses.increment();
+        return loader.get().map(this::put);
+    }
+
+    private IcesiUser put(IcesiUser user) {
+        usersById.put(user.getIcesiUserId(), CachedUser.from(user));
+        Optional.ofNullable(user.getEmail()).ifPresent(email -> userIdsByEmail.put(email, user.getIcesiUserId()));
+        Optional.ofNullable(user.getPhoneNumber()).ifPresent(phoneNumber -> userIdsByPhoneNumber.put(phoneNumber, user.getIcesiUserId()));
+        return user;
+    }
+
+    private void invalidate(CachedUser user) {
+        usersById.invalidate(user.icesiUserId());
+        Optional.ofNullable(user.email()).ifPresent(userIdsByEmail::invalidate);
+        Optional.ofNullable(user.phoneNumber()).ifPresent(userIdsByPhoneNumber::invalidate);
+    }
+
+    private record CachedUser(UUID icesiUserId, String firstName, String lastName, String code, String email, String phoneNumber) {
+
+        static CachedUser from(IcesiUser user) {
+            return new CachedUser(user.getIcesiUserId(), user.getFirstName(), user.getLastName(), user.getCode(),
+                    user.getEmail(), user.getPhoneNumber());
+        }
+
+        IcesiUser toUser() {
+            return IcesiUser.builder()
+                    .icesiUserId(icesiUserId)
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .code(code)
+                    .email(email)
+                    .phoneNumber(phoneNumber)
+                    .build();
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package co.edu.icesi.drafts.cache;
+
+import co.edu.icesi.drafts.model.IcesiUser;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+@Component
+@AllArgsConstructor
+public class IcesiUserCacheListener {
+
+    private final ObjectProvider<IcesiUserCache> userCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(IcesiUser user) {
+        userCache.ifAvailable(cache -> cache.evict(user));
+    }
+
+}
@@ -0,0 +1,52 @@
+package co.edu.icesi.drafts.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class IcesiStreamingCodecs {
+
+    public record Codec(MediaType mediaType, ObjectMapper objectMapper) {
+    }
+
+    private final Codec json;
+    private final List<Codec> codecs;
+
+    public IcesiStreamingCodecs(ObjectMapper objectMapper, MappingJackson2SmileHttpMessageConverter smileConverter,
+                                MappingJackson2CborHttpMessageConverter cborConverter) {
+        this.json = new Codec(MediaType.APPLICATION_JSON, objectMapper);
+        this.codecs = List.of(
+                json,
+                new Codec(MediaType.valueOf("application/x-jackson-smile"), smileConverter.getObjectMapper()),
+                new Codec(MediaType.APPLICATION_CBOR, cborConverter.getObjectMapper())
+        );
+    }
+
+    public Codec negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return json;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return json;
+        }
+        MediaType.sortBySpecificityAndQuality(accepted);
+        for (var mediaType : accepted) {
+            for (var codec : codecs) {
+                if (mediaType.includes(codec.mediaType())) {
+                    return codec;
+                }
+            }
+        }
+        return json;
+    }
+
+}
@@ -1,36 +1,166 @@
 package co.edu.icesi.drafts.controller;
 
+import co.edu.icesi.drafts.admission.IcesiAdmissionControl;
+import co.edu.icesi.drafts.admission.IcesiAdmissionControl.Client;
+import co.edu.icesi.drafts.admission.IcesiAdmissionControl.Operation;
 import co.edu.icesi.drafts.api.IcesiDocumentAPI;
+import co.edu.icesi.drafts.config.IcesiStreamingCodecs;
+import co.edu.icesi.drafts.dto.IcesiDocumentAutosaveDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentBatchPatchDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentCountsDTO;
 import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentPageDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentPatchResultDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentSummaryDTO;
+import co.edu.icesi.drafts.dto.IcesiReadModelConsistencyDTO;
+import co.edu.icesi.drafts.error.exception.DetailBuilder;
+import co.edu.icesi.drafts.error.exception.ErrorCode;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.service.IcesiDocumentExportService;
 import co.edu.icesi.drafts.service.IcesiDocumentService;
+import com.fasterxml.jackson.core.JsonGenerator;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static co.edu.icesi.drafts.error.util.IcesiExceptionBuilder.createIcesiException;
 
 @RestController
 @AllArgsConstructor
 public class IcesiDocumentController implements IcesiDocumentAPI {
 
     private final IcesiDocumentService documentService;
+    private final IcesiDocumentExportService exportService;
+    private final IcesiStreamingCodecs streamingCodecs;
+    private final IcesiAdmissionControl admissionControl;
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> getAllDocuments(IcesiDocumentStatus status, String accept) {
+        var codec = streamingCodecs.negotiate(accept);
+        StreamingResponseBody body = outputStream -> {
+            try (var generator = codec.objectMapper().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                documentService.forEachDocument(status, document -> writeDocument(generator, document));
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(codec.mediaType()).header(HttpHeaders.VARY, HttpHeaders.ACCEPT).body(body);
+    }
+
+    @Override
+    public IcesiDocumentPageDTO getDocuments(int limit, UUID after, IcesiDocumentStatus status) {
+        return documentService.getDocuments(limit, after, status);
+    }
+
+    @Override
+    public IcesiDocumentCountsDTO getDocumentCounts(UUID userId) {
+        return documentService.getDocumentCounts(userId);
+    }
+
+    @Override
+    public IcesiReadModelConsistencyDTO checkReadModelConsistency() {
+        return documentService.checkReadModelConsistency();
+    }
+
+    @Override
+    public List<IcesiDocumentSummaryDTO> searchDocuments(String query, IcesiDocumentStatus status, UUID userId, int limit) {
+        return documentService.searchDocuments(query, status, userId, limit);
+    }
 
     @Override
-    public List<IcesiDocumentDTO> getAllDocuments() {
-        return documentService.getAllDocuments();
+    public ResponseEntity<StreamingResponseBody> exportDocuments(String format, IcesiDocumentStatus status, UUID userId, Instant from, Instant to) {
+        var exportFormat = exportService.parseFormat(format);
+        StreamingResponseBody body = outputStream -> exportService.exportDocuments(exportFormat, status, userId, from, to, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"documents." + exportFormat.getValue() + "\"")
+                .body(body);
     }
 
     @Override
-    public IcesiDocumentDTO createDocument(IcesiDocumentDTO documentDTO) {
-        return documentService.createDocument(documentDTO);
+    public ResponseEntity<IcesiDocumentDTO> getDocument(String documentId, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(toETag(documentService.getDocumentVersion(documentId)))) {
+            return null;
+        }
+        var document = documentService.getDocument(documentId);
+        return ResponseEntity.ok().eTag(toETag(document.getVersion())).body(document);
     }
 
     @Override
-    public List<IcesiDocumentDTO> createDocuments(List<IcesiDocumentDTO> documentDTOS) {
-        return documentService.createDocuments(documentDTOS);
+    public void autosaveDocument(String documentId, HttpServletRequest request, IcesiDocumentAutosaveDTO autosaveDTO) {
+        admissionControl.admit(Operation.SINGLE, Client.of(request), () -> documentService.autosaveDocument(documentId, autosaveDTO.getText()));
     }
 
     @Override
-    public IcesiDocumentDTO updateDocument(String documentId, IcesiDocumentDTO documentDTO) {
-        return documentService.updateDocument(documentId, documentDTO);
+    public IcesiDocumentDTO createDocument(HttpServletRequest request, IcesiDocumentDTO documentDTO) {
+        return admissionControl.admit(Operation.SINGLE, Client.of(request), documentDTO.getUserId(),
+                () -> documentService.createDocument(documentDTO));
+    }
+
+    @Override
+    public List<IcesiDocumentDTO> createDocuments(HttpServletRequest request, List<IcesiDocumentDTO> documentDTOS) {
+        var permitsByUser = new HashMap<UUID, Integer>();
+        documentDTOS.forEach(documentDTO -> permitsByUser.merge(documentDTO.getUserId(), 1, Integer::sum));
+        return admissionControl.admit(Operation.BULK, Client.of(request), permitsByUser,
+                () -> documentService.createDocuments(documentDTOS));
+    }
+
+    @Override
+    public List<IcesiDocumentPatchResultDTO> patchDocuments(HttpServletRequest request, IcesiDocumentBatchPatchDTO patch) {
+        return admissionControl.admit(Operation.BULK, Client.of(request), Collections.<UUID, Integer>singletonMap(null, patch.getIds().size()),
+                () -> documentService.patchDocuments(patch));
+    }
+
+    @Override
+    public ResponseEntity<IcesiDocumentDTO> updateDocument(String documentId, String ifMatch, HttpServletRequest request, IcesiDocumentDTO documentDTO) {
+        Optional.ofNullable(ifMatch)
+                .filter(eTag -> !eTag.equals("*"))
+                .map(this::fromETag)
+                .ifPresent(documentDTO::setVersion);
+        var document = admissionControl.admit(Operation.SINGLE, Client.of(request), documentDTO.getUserId(),
+                () -> documentService.updateDocument(documentId, documentDTO));
+        return ResponseEntity.ok().eTag(toETag(document.getVersion())).body(document);
+    }
+
+    private String toETag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    private Long fromETag(String eTag) {
+        var value = eTag.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        try {
+            return Long.valueOf(value.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw createIcesiException(
+                    "Invalid If-Match header",
+                    new DetailBuilder(ErrorCode.ERR_400, HttpHeaders.IF_MATCH, "must be a document ETag")
+            ).get();
+        }
+    }
+
+    private void writeDocument(JsonGenerator generator, IcesiDocumentSummaryDTO document) {
+        try {
+            generator.writeObject(document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
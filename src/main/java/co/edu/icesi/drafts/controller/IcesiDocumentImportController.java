@@ -0,0 +1,47 @@
+package co.edu.icesi.drafts.controller;
+
+import co.edu.icesi.drafts.admission.IcesiAdmissionControl;
+import co.edu.icesi.drafts.admission.IcesiAdmissionControl.Client;
+import co.edu.icesi.drafts.admission.IcesiAdmissionControl.Operation;
+import co.edu.icesi.drafts.api.IcesiDocumentImportAPI;
+import co.edu.icesi.drafts.dto.IcesiImportJobDTO;
+import co.edu.icesi.drafts.service.IcesiDocumentImportService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+@RestController
+@AllArgsConstructor
+public class IcesiDocumentImportController implements IcesiDocumentImportAPI {
+
+    private final IcesiDocumentImportService importService;
+    private final IcesiAdmissionControl admissionControl;
+
+    @Override
+    public ResponseEntity<IcesiImportJobDTO> startImport(HttpServletRequest request) {
+        var job = admissionControl.admit(Operation.BULK, Client.of(request), Map.of(), () -> {
+            try {
+                return importService.startImport(request.getInputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        var location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{jobId}")
+                .buildAndExpand(job.getJobId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @Override
+    public IcesiImportJobDTO getImport(String jobId) {
+        return importService.getImport(jobId);
+    }
+
+}
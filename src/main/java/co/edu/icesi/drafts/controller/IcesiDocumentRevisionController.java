@@ -0,0 +1,28 @@
+package co.edu.icesi.drafts.controller;
+
+import co.edu.icesi.drafts.api.IcesiDocumentRevisionAPI;
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentRevisionDTO;
+import co.edu.icesi.drafts.service.IcesiDocumentRevisionService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@AllArgsConstructor
+public class IcesiDocumentRevisionController implements IcesiDocumentRevisionAPI {
+
+    private final IcesiDocumentRevisionService revisionService;
+
+    @Override
+    public List<IcesiDocumentRevisionDTO> getRevisions(String documentId) {
+        return revisionService.getRevisions(documentId);
+    }
+
+    @Override
+    public IcesiDocumentDTO getRevision(String documentId, long version) {
+        return revisionService.getRevision(documentId, version);
+    }
+
+}
@@ -0,0 +1,23 @@
+package co.edu.icesi.drafts.controller;
+
+import co.edu.icesi.drafts.api.IcesiUserAPI;
+import co.edu.icesi.drafts.dto.IcesiDocumentPageDTO;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.service.IcesiDocumentService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@AllArgsConstructor
+public class IcesiUserController implements IcesiUserAPI {
+
+    private final IcesiDocumentService documentService;
+
+    @Override
+    public IcesiDocumentPageDTO getUserDocuments(String userId, int limit, UUID after, IcesiDocumentStatus status) {
+        return documentService.getUserDocuments(userId, limit, after, status);
+    }
+
+}
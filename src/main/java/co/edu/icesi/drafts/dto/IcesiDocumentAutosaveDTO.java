@@ -0,0 +1,19 @@
+package co.edu.icesi.drafts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IcesiDocumentAutosaveDTO {
+
+    @NotNull
+    private String text;
+
+}
@@ -0,0 +1,28 @@
+package co.edu.icesi.drafts.dto;
+
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IcesiDocumentBatchPatchDTO {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull UUID> ids;
+    @NotNull
+    private IcesiDocumentStatus status;
+    private String text;
+
+}
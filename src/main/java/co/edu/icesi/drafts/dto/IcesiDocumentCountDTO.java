@@ -0,0 +1,21 @@
+package co.edu.icesi.drafts.dto;
+
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IcesiDocumentCountDTO {
+
+    private UUID userId;
+    private IcesiDocumentStatus status;
+    private Long count;
+
+}
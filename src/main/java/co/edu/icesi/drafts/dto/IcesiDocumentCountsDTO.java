@@ -0,0 +1,24 @@
+package co.edu.icesi.drafts.dto;
+
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IcesiDocumentCountsDTO {
+
+    private UUID userId;
+    private long total;
+    private Map<IcesiDocumentStatus, Long> byStatus;
+
+}
@@ -3,8 +3,10 @@ package co.edu.icesi.drafts.dto;
 import co.edu.icesi.drafts.model.IcesiDocumentStatus;
 import co.edu.icesi.drafts.model.IcesiUser;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.lang.NonNull;
 
 import javax.persistence.JoinColumn;
@@ -15,7 +17,9 @@ import java.util.UUID;
 
 
 @Data
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class IcesiDocumentDTO {
 
@@ -27,5 +31,6 @@ public class IcesiDocumentDTO {
     @NotNull(message = "can't be null")
     private IcesiDocumentStatus status;
     private UUID userId;
+    private Long version;
 
 }
@@ -0,0 +1,26 @@
+package co.edu.icesi.drafts.dto;
+
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IcesiDocumentExportDTO {
+
+    private UUID icesiDocumentId;
+    private String title;
+    private String text;
+    private IcesiDocumentStatus status;
+    private UUID userId;
+    private Long version;
+    private Instant createdAt;
+
+}
@@ -0,0 +1,22 @@
+package co.edu.icesi.drafts.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IcesiDocumentPageDTO {
+
+    private List<IcesiDocumentSummaryDTO> documents;
+    private UUID next;
+
+}
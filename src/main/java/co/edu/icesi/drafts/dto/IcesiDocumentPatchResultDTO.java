@@ -0,0 +1,27 @@
+package co.edu.icesi.drafts.dto;
+
+import co.edu.icesi.drafts.error.exception.IcesiErrorDetail;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IcesiDocumentPatchResultDTO {
+
+    private UUID icesiDocumentId;
+    private boolean updated;
+    private IcesiDocumentStatus status;
+    private Long version;
+    private List<IcesiErrorDetail> errors;
+
+}
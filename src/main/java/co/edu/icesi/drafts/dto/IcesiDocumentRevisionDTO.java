@@ -0,0 +1,23 @@
+package co.edu.icesi.drafts.dto;
+
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IcesiDocumentRevisionDTO {
+
+    private Long version;
+    private String title;
+    private IcesiDocumentStatus status;
+    private boolean snapshot;
+    private Instant createdAt;
+
+}
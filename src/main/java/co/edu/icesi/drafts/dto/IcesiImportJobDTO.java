@@ -0,0 +1,33 @@
+package co.edu.icesi.drafts.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IcesiImportJobDTO {
+
+    private UUID jobId;
+    private IcesiImportJobStatus status;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long linesRead;
+    private long imported;
+    private long failed;
+    private double documentsPerSecond;
+    private String failure;
+    private List<IcesiImportLineErrorDTO> errors;
+    private boolean errorsTruncated;
+
+}
@@ -0,0 +1,5 @@
+package co.edu.icesi.drafts.dto;
+
+public enum IcesiImportJobStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
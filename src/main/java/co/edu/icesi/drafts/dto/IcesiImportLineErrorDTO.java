@@ -0,0 +1,20 @@
+package co.edu.icesi.drafts.dto;
+
+import co.edu.icesi.drafts.error.exception.IcesiErrorDetail;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IcesiImportLineErrorDTO {
+
+    private long line;
+    private List<IcesiErrorDetail> details;
+
+}
@@ -0,0 +1,28 @@
+package co.edu.icesi.drafts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IcesiReadModelConsistencyDTO {
+
+    private boolean ready;
+    private boolean consistent;
+    private long databaseCount;
+    private long readModelCount;
+    private long missingCount;
+    private long staleCount;
+    private long extraCount;
+    private List<UUID> missingIds;
+    private List<UUID> staleIds;
+    private List<UUID> extraIds;
+
+}
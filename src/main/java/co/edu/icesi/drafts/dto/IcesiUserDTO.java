@@ -1,11 +1,8 @@
 package co.edu.icesi.drafts.dto;
 
-import co.edu.icesi.drafts.model.IcesiDocument;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
-import javax.persistence.OneToMany;
-import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -19,6 +16,4 @@ public class IcesiUserDTO {
     private String email;
     private String phoneNumber;
 
-    private List<IcesiDocumentDTO> documents;
-
 }
@@ -1,8 +1,12 @@
 package co.edu.icesi.drafts.error;
 
 import co.edu.icesi.drafts.error.exception.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,18 +16,41 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import java.util.List;
 
 import static co.edu.icesi.drafts.error.util.IcesiExceptionBuilder.createIcesiError;
+import static co.edu.icesi.drafts.error.util.IcesiExceptionBuilder.mapToIcesiErrorDetail;
 
 @ControllerAdvice
+@AllArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(IcesiException.class)
     public ResponseEntity<IcesiError> handleIcesiException(IcesiException icesiException){
+        count(icesiException.getError());
         return ResponseEntity.status(icesiException.getError().getStatus()).body(icesiException.getError());
     }
 
+    @ExceptionHandler(IcesiRateLimitException.class)
+    public ResponseEntity<IcesiError> handleRateLimitException(IcesiRateLimitException exception){
+        count(exception.getError());
+        var retryAfter = Math.max(1, (exception.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                .body(exception.getError());
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<IcesiError> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException exception){
+        var error = createIcesiError(exception.getMessage(), HttpStatus.PRECONDITION_FAILED,
+                new DetailBuilder(ErrorCode.ERR_412, "Document", "Id", exception.getIdentifier()));
+        count(error);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<IcesiError> handleRuntimeException(RuntimeException runtimeException){
        var error = createIcesiError(runtimeException.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR, new DetailBuilder(ErrorCode.ERR_500));
+       count(error);
        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
 
@@ -33,14 +60,18 @@ public class GlobalExceptionHandler {
         var errorBuilder = IcesiError.builder().status(HttpStatus.BAD_REQUEST);
         var details = ex.getBindingResult().getAllErrors().stream().map(this::mapBindingResultToError).toList();
         var error = errorBuilder.details(details).build();
+        count(error);
         return ResponseEntity.status(error.getStatus()).body(error);
     }
 
+    private void count(IcesiError error) {
+        error.getDetails().forEach(detail -> meterRegistry.counter("drafts.errors",
+                "code", detail.getErrorCode(),
+                "status", String.valueOf(error.getStatus().value())).increment());
+    }
+
     private IcesiErrorDetail mapBindingResultToError(ObjectError objectError){
-        var message = ErrorCode.ERR_400.getMessage().formatted(((FieldError) objectError).getField(), objectError.getDefaultMessage());
-        return IcesiErrorDetail.builder()
-                .errorCode(ErrorCode.ERR_400.getCode())
-                .errorMessage(message).build();
+        return mapToIcesiErrorDetail(ErrorCode.ERR_400, ((FieldError) objectError).getField(), objectError.getDefaultMessage());
     }
 
 }
@@ -1,19 +1,45 @@
 package co.edu.icesi.drafts.error.exception;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
-import org.springframework.http.HttpStatus;
 
 @Getter
-@AllArgsConstructor
 public enum ErrorCode {
 
     ERR_404("ERR_404", "%s with %s: %s not found"),
     ERR_500("ERR_500", "Oops, we ran into an error"),
     ERR_400("ERR_400", "field %s %s"),
+    ERR_412("ERR_412", "%s with %s: %s has been modified"),
+    ERR_413("ERR_413", "%s is larger than %s bytes"),
     ERR_REQUIRED_FIELD("ERR_REQUIRED_FIELD", "field %s is required"),
-    ERR_DUPLICATED("ERR_DUPLICATED", "resource %s with field %s: %s, already exists");
+    ERR_DUPLICATED("ERR_DUPLICATED", "resource %s with field %s: %s, already exists"),
+    ERR_NOT_MODIFIABLE("ERR_NOT_MODIFIABLE", "field %s can't be modified"),
+    ERR_NOT_EDITABLE("ERR_NOT_EDITABLE", "field %s can't be modified when document is %s"),
+    ERR_INVALID_TRANSITION("ERR_INVALID_TRANSITION", "document can't move from %s to %s"),
+    ERR_503("ERR_503", "%s is busy, try again later"),
+    ERR_429("ERR_429", "%s is over its limit, try again later");
+
+    private static final String PLACEHOLDER = "%s";
+
     private final String code;
     private final String message;
+    private final String[] parts;
+
+    ErrorCode(String code, String message) {
+        this.code = code;
+        this.message = message;
+        this.parts = message.split(PLACEHOLDER, -1);
+    }
+
+    public String format(Object... fields) {
+        if (parts.length == 1) {
+            return message;
+        }
+        var builder = new StringBuilder(message.length() + 16 * (parts.length - 1));
+        builder.append(parts[0]);
+        for (int index = 1; index < parts.length; index++) {
+            builder.append(index <= fields.length ? fields[index - 1] : null).append(parts[index]);
+        }
+        return builder.toString();
+    }
 
 }
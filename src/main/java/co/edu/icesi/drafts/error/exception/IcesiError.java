@@ -1,5 +1,6 @@
 package co.edu.icesi.drafts.error.exception;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
@@ -9,6 +10,7 @@ import java.util.List;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class IcesiError {
 
     private HttpStatus status;
@@ -1,6 +1,5 @@
 package co.edu.icesi.drafts.error.exception;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 
@@ -10,7 +9,7 @@ public class IcesiException extends RuntimeException {
     private final IcesiError error;
 
     public IcesiException(String message, IcesiError error) {
-        super(message);
+        super(message, null, false, false);
         this.error = error;
     }
 
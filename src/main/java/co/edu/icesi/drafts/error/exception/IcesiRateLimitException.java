@@ -0,0 +1,17 @@
+package co.edu.icesi.drafts.error.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class IcesiRateLimitException extends IcesiException {
+
+    private final Duration retryAfter;
+
+    public IcesiRateLimitException(String message, IcesiError error, Duration retryAfter) {
+        super(message, error);
+        this.retryAfter = retryAfter;
+    }
+
+}
@@ -3,7 +3,7 @@ package co.edu.icesi.drafts.error.util;
 import co.edu.icesi.drafts.error.exception.*;
 import org.springframework.http.HttpStatus;
 
-import java.util.Arrays;
+import java.util.List;
 import java.util.function.Supplier;
 
 public class IcesiExceptionBuilder {
@@ -17,20 +17,23 @@ public class IcesiExceptionBuilder {
     }
 
     public static IcesiError createIcesiError(String message, HttpStatus httpStatus,DetailBuilder... details){
-        return IcesiError.builder().status(httpStatus)
-                .details(
-                        Arrays.stream(details)
-                                .map(IcesiExceptionBuilder::mapToIcesiErrorDetail)
-                                .toList()
-                ).build();
+        var errorDetails = new IcesiErrorDetail[details.length];
+        for (int index = 0; index < details.length; index++) {
+            errorDetails[index] = mapToIcesiErrorDetail(details[index]);
+        }
+        return createIcesiError(message, httpStatus, List.of(errorDetails));
+    }
+
+    public static IcesiError createIcesiError(String message, HttpStatus httpStatus, List<IcesiErrorDetail> details){
+        return new IcesiError(httpStatus, details);
     }
 
     public static IcesiErrorDetail mapToIcesiErrorDetail(DetailBuilder detailBuilder) {
-        return IcesiErrorDetail.builder()
-                .errorCode(detailBuilder.getErrorCode().getCode())
-                .errorMessage(detailBuilder.getErrorCode().getMessage().formatted(detailBuilder.getFields()))
-                .build();
+        return mapToIcesiErrorDetail(detailBuilder.getErrorCode(), detailBuilder.getFields());
+    }
 
+    public static IcesiErrorDetail mapToIcesiErrorDetail(ErrorCode errorCode, Object... fields) {
+        return new IcesiErrorDetail(errorCode.getCode(), errorCode.format(fields));
     }
 
 }
@@ -0,0 +1,56 @@
+package co.edu.icesi.drafts.error.util;
+
+import co.edu.icesi.drafts.error.exception.ErrorCode;
+import co.edu.icesi.drafts.error.exception.IcesiErrorDetail;
+import co.edu.icesi.drafts.error.exception.IcesiException;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static co.edu.icesi.drafts.error.util.IcesiExceptionBuilder.createIcesiError;
+import static co.edu.icesi.drafts.error.util.IcesiExceptionBuilder.mapToIcesiErrorDetail;
+
+public class ValidationResult {
+
+    private List<IcesiErrorDetail> details;
+
+    public ValidationResult add(ErrorCode errorCode, Object... fields) {
+        return add(mapToIcesiErrorDetail(errorCode, fields));
+    }
+
+    public ValidationResult add(IcesiErrorDetail detail) {
+        if (details == null) {
+            details = new ArrayList<>(4);
+        }
+        details.add(detail);
+        return this;
+    }
+
+    public ValidationResult addAll(ValidationResult result) {
+        if (!result.isValid()) {
+            result.details.forEach(this::add);
+        }
+        return this;
+    }
+
+    public boolean isValid() {
+        return details == null;
+    }
+
+    public List<IcesiErrorDetail> getDetails() {
+        return details == null ? List.of() : Collections.unmodifiableList(details);
+    }
+
+    public void throwIfInvalid(String message) {
+        throwIfInvalid(message, HttpStatus.BAD_REQUEST);
+    }
+
+    public void throwIfInvalid(String message, HttpStatus httpStatus) {
+        if (!isValid()) {
+            throw new IcesiException(message, createIcesiError(message, httpStatus, getDetails()));
+        }
+    }
+
+}
@@ -0,0 +1,11 @@
+package co.edu.icesi.drafts.event;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+
+public record IcesiDocumentChange(IcesiDocumentDTO before, IcesiDocumentDTO after) {
+
+    public static IcesiDocumentChange created(IcesiDocumentDTO document) {
+        return new IcesiDocumentChange(null, document);
+    }
+
+}
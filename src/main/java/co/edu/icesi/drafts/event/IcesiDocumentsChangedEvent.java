@@ -0,0 +1,6 @@
+package co.edu.icesi.drafts.event;
+
+import java.util.List;
+
+public record IcesiDocumentsChangedEvent(List<IcesiDocumentChange> changes) {
+}
@@ -0,0 +1,513 @@
+package co.edu.icesi.drafts.index;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentSummaryDTO;
+import co.edu.icesi.drafts.dto.IcesiReadModelConsistencyDTO;
+import co.edu.icesi.drafts.event.IcesiDocumentChange;
+import co.edu.icesi.drafts.event.IcesiDocumentsChangedEvent;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+@Component
+public class IcesiDocumentReadModel implements MeterBinder {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final int MAX_REPORTED_IDS = 100;
+    private static final int CHUNK_SIZE = 256;
+    private static final int USER_BUCKETS = 64;
+    private static final IcesiDocumentSummaryDTO[] EMPTY = new IcesiDocumentSummaryDTO[0];
+    private static final Comparator<UUID> UNSIGNED = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+    private static final Comparator<IcesiDocumentSummaryDTO> BY_ID = Comparator.comparing(IcesiDocumentSummaryDTO::getIcesiDocumentId, UNSIGNED);
+
+    private final IcesiDocumentRepository documentRepository;
+    private final boolean enabled;
+    private final Object writeLock = new Object();
+    private volatile Shard[] shards;
+    private volatile boolean ready;
+    private List<IcesiDocumentChange> changesDuringRebuild;
+
+    @Autowired
+    public IcesiDocumentReadModel(IcesiDocumentRepository documentRepository,
+                                  @Value("${drafts.read-model.enabled:true}") boolean enabled,
+                                  @Value("${drafts.read-model.shards:16}") int shards) {
+        this.documentRepository = documentRepository;
+        this.enabled = enabled;
+        this.shards = new Shard[Integer.highestOneBit(Math.max(1, shards))];
+        Arrays.fill(this.shards, Shard.EMPTY_SHARD);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeLock) {
+            ready = false;
+            changesDuringRebuild = new ArrayList<>();
+        }
+        var documents = new ArrayList<IcesiDocumentSummaryDTO>();
+        var pageable = PageRequest.ofSize(REBUILD_PAGE_SIZE);
+        var page = documentRepository.findDocumentSummaryPage(pageable);
+        while (!page.isEmpty()) {
+            documents.addAll(page);
+            page = page.size() < REBUILD_PAGE_SIZE
+                    ? List.of()
+                    : documentRepository.findDocumentSummaryPageAfter(page.get(page.size() - 1).getIcesiDocumentId(), pageable);
+        }
+        var partitions = new ArrayList<List<IcesiDocumentSummaryDTO>>(shards.length);
+        for (int index = 0; index < shards.length; index++) {
+            partitions.add(new ArrayList<>());
+        }
+        documents.forEach(document -> partitions.get(shardOf(document.getIcesiDocumentId())).add(document));
+        var rebuilt = partitions.stream().map(Shard::of).toArray(Shard[]::new);
+        synchronized (writeLock) {
+            shards = rebuilt;
+            apply(changesDuringRebuild);
+            changesDuringRebuild = null;
+            ready = true;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentsChanged(IcesiDocumentsChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.addAll(event.changes());
+            }
+            apply(event.changes());
+        }
+    }
+
+    public List<IcesiDocumentSummaryDTO> findPage(UUID after, int limit, IcesiDocumentStatus status, UUID userId) {
+        var page = new ArrayList<IcesiDocumentSummaryDTO>(Math.min(limit, REBUILD_PAGE_SIZE));
+        scan(after, status, userId, document -> {
+            page.add(document);
+            return page.size() < limit;
+        });
+        return page;
+    }
+
+    public void forEach(IcesiDocumentStatus status, Consumer<IcesiDocumentSummaryDTO> consumer) {
+        scan(null, status, null, document -> {
+            consumer.accept(document);
+            return true;
+        });
+    }
+
+    public int size() {
+        var size = 0;
+        for (var shard : shards) {
+            size += shard.documents().size();
+        }
+        return size;
+    }
+
+    public IcesiReadModelConsistencyDTO checkConsistency() {
+        var snapshot = shards;
+        var unseen = new HashSet<UUID>();
+        for (var shard : snapshot) {
+            shard.documents().forEach(document -> unseen.add(document.getIcesiDocumentId()));
+        }
+        var readModelCount = unseen.size();
+        var missing = new ArrayList<UUID>();
+        var stale = new ArrayList<UUID>();
+        var missingCount = 0L;
+        var staleCount = 0L;
+        var databaseCount = 0L;
+        var pageable = PageRequest.ofSize(REBUILD_PAGE_SIZE);
+        var page = documentRepository.findDocumentSummaryPage(pageable);
+        while (!page.isEmpty()) {
+            for (var document : page) {
+                databaseCount++;
+                var id = document.getIcesiDocumentId();
+                var cached = snapshot[shardOf(id)].documents().find(id);
+                unseen.remove(id);
+                if (cached == null) {
+                    missingCount++;
+                    addCapped(missing, id);
+                } else if (!cached.equals(document)) {
+                    staleCount++;
+                    addCapped(stale, id);
+                }
+            }
+            page = page.size() < REBUILD_PAGE_SIZE
+                    ? List.of()
+                    : documentRepository.findDocumentSummaryPageAfter(page.get(page.size() - 1).getIcesiDocumentId(), pageable);
+        }
+        return IcesiReadModelConsistencyDTO.builder()
+                .ready(ready)
+                .consistent(missingCount == 0 && staleCount == 0 && unseen.isEmpty())
+                .databaseCount(databaseCount)
+                .readModelCount(readModelCount)
+                .missingCount(missingCount)
+                .staleCount(staleCount)
+                .extraCount(unseen.size())
+                .missingIds(missing)
+                .staleIds(stale)
+                .extraIds(unseen.stream().limit(MAX_REPORTED_IDS).toList())
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("drafts.readmodel.documents", this, IcesiDocumentReadModel::size)
+                .description("Documents held by the in-memory read model")
+                .register(registry);
+        Gauge.builder("drafts.readmodel.ready", this, readModel -> readModel.isReady() ? 1 : 0)
+                .register(registry);
+    }
+
+    private void scan(UUID after, IcesiDocumentStatus status, UUID userId, Predicate<IcesiDocumentSummaryDTO> consumer) {
+        var snapshot = shards;
+        var cursors = new PriorityQueue<Cursor>(snapshot.length, Comparator.comparing(Cursor::current, BY_ID));
+        for (var shard : snapshot) {
+            var documents = userId != null
+                    ? shard.userDocuments(userId)
+                    : status != null ? shard.byStatus().getOrDefault(status, Chunks.EMPTY_CHUNKS) : shard.documents();
+            var cursor = documents.cursor(after);
+            if (cursor != null) {
+                cursors.add(cursor);
+            }
+        }
+        while (!cursors.isEmpty()) {
+            var cursor = cursors.poll();
+            var document = cursor.current();
+            if ((status == null || document.getStatus() == status) && !consumer.test(document)) {
+                return;
+            }
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+    }
+
+    private void apply(List<IcesiDocumentChange> changes) {
+        var changesByShard = new HashMap<Integer, Map<UUID, IcesiDocumentSummaryDTO>>();
+        for (var change : changes) {
+            var document = change.after();
+            if (document == null || document.getIcesiDocumentId() == null) {
+                continue;
+            }
+            changesByShard.computeIfAbsent(shardOf(document.getIcesiDocumentId()), shard -> new HashMap<>())
+                    .merge(document.getIcesiDocumentId(), toSummary(document), IcesiDocumentReadModel::newest);
+        }
+        var updated = shards.clone();
+        changesByShard.forEach((index, shardChanges) -> updated[index] = updated[index].apply(shardChanges));
+        shards = updated;
+    }
+
+    private int shardOf(UUID documentId) {
+        var hash = documentId.hashCode();
+        return (hash ^ (hash >>> 16)) & (shards.length - 1);
+    }
+
+    private static IcesiDocumentSummaryDTO newest(IcesiDocumentSummaryDTO current, IcesiDocumentSummaryDTO candidate) {
+        if (current.getVersion() == null || candidate.getVersion() == null) {
+            return candidate;
+        }
+        return candidate.getVersion() >= current.getVersion() ? candidate : current;
+    }
+
+    private static IcesiDocumentSummaryDTO toSummary(IcesiDocumentDTO document) {
+        return IcesiDocumentSummaryDTO.builder()
+                .icesiDocumentId(document.getIcesiDocumentId())
+                .title(document.getTitle())
+                .status(document.getStatus())
+                .userId(document.getUserId())
+                .version(document.getVersion())
+                .build();
+    }
+
+    private static void addCapped(List<UUID> ids, UUID id) {
+        if (ids.size() < MAX_REPORTED_IDS) {
+            ids.add(id);
+        }
+    }
+
+    private static IcesiDocumentSummaryDTO find(IcesiDocumentSummaryDTO[] documents, UUID documentId) {
+        var index = lowerBound(documents, documentId);
+        return index < documents.length && documents[index].getIcesiDocumentId().equals(documentId) ? documents[index] : null;
+    }
+
+    private static int lowerBound(IcesiDocumentSummaryDTO[] documents, UUID documentId) {
+        int low = 0;
+        int high = documents.length;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (UNSIGNED.compare(documents[middle].getIcesiDocumentId(), documentId) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int upperBound(IcesiDocumentSummaryDTO[] documents, UUID documentId) {
+        var index = lowerBound(documents, documentId);
+        return index < documents.length && documents[index].getIcesiDocumentId().equals(documentId) ? index + 1 : index;
+    }
+
+    private static IcesiDocumentSummaryDTO[] merge(IcesiDocumentSummaryDTO[] documents, Set<UUID> changedIds,
+                                                   List<IcesiDocumentSummaryDTO> upserts) {
+        var merged = new ArrayList<IcesiDocumentSummaryDTO>(documents.length + upserts.size());
+        var next = 0;
+        for (var document : documents) {
+            if (changedIds.contains(document.getIcesiDocumentId())) {
+                continue;
+            }
+            while (next < upserts.size() && BY_ID.compare(upserts.get(next), document) < 0) {
+                merged.add(upserts.get(next++));
+            }
+            merged.add(document);
+        }
+        merged.addAll(upserts.subList(next, upserts.size()));
+        return merged.toArray(EMPTY);
+    }
+
+    private record Shard(Chunks documents,
+                         Map<IcesiDocumentStatus, Chunks> byStatus,
+                         List<Map<UUID, Chunks>> byUser) {
+
+        private static final Shard EMPTY_SHARD = of(List.of());
+
+        static Shard of(List<IcesiDocumentSummaryDTO> documents) {
+            var sorted = documents.toArray(EMPTY);
+            Arrays.sort(sorted, BY_ID);
+            var byStatus = new EnumMap<IcesiDocumentStatus, List<IcesiDocumentSummaryDTO>>(IcesiDocumentStatus.class);
+            var byUser = new HashMap<UUID, List<IcesiDocumentSummaryDTO>>();
+            for (var document : sorted) {
+                if (document.getStatus() != null) {
+                    byStatus.computeIfAbsent(document.getStatus(), status -> new ArrayList<>()).add(document);
+                }
+                if (document.getUserId() != null) {
+                    byUser.computeIfAbsent(document.getUserId(), userId -> new ArrayList<>()).add(document);
+                }
+            }
+            var statusChunks = new EnumMap<IcesiDocumentStatus, Chunks>(IcesiDocumentStatus.class);
+            byStatus.forEach((status, list) -> statusChunks.put(status, Chunks.of(list.toArray(EMPTY))));
+            var userBuckets = new ArrayList<Map<UUID, Chunks>>(USER_BUCKETS);
+            for (int bucket = 0; bucket < USER_BUCKETS; bucket++) {
+                userBuckets.add(new HashMap<>());
+            }
+            byUser.forEach((userId, list) -> userBuckets.get(bucketOf(userId)).put(userId, Chunks.of(list.toArray(EMPTY))));
+            return new Shard(Chunks.of(sorted), statusChunks, userBuckets);
+        }
+
+        Chunks userDocuments(UUID userId) {
+            return byUser.get(bucketOf(userId)).getOrDefault(userId, Chunks.EMPTY_CHUNKS);
+        }
+
+        // Returns a new shard that shares every chunk and user bucket the changes don't touch.
+        Shard apply(Map<UUID, IcesiDocumentSummaryDTO> changes) {
+            var upserts = new ArrayList<IcesiDocumentSummaryDTO>(changes.size());
+            var affectedStatuses = EnumSet.noneOf(IcesiDocumentStatus.class);
+            var affectedUsers = new HashSet<UUID>();
+            var changedIds = new HashSet<UUID>();
+            changes.forEach((documentId, document) -> {
+                var current = documents.find(documentId);
+                if (current != null && current.getVersion() != null && document.getVersion() != null
+                        && current.getVersion() > document.getVersion()) {
+                    return;
+                }
+                changedIds.add(documentId);
+                upserts.add(document);
+                for (var affected : current == null ? List.of(document) : List.of(current, document)) {
+                    if (affected.getStatus() != null) {
+                        affectedStatuses.add(affected.getStatus());
+                    }
+                    if (affected.getUserId() != null) {
+                        affectedUsers.add(affected.getUserId());
+                    }
+                }
+            });
+            if (changedIds.isEmpty()) {
+                return this;
+            }
+            upserts.sort(BY_ID);
+            var statusChunks = new EnumMap<IcesiDocumentStatus, Chunks>(IcesiDocumentStatus.class);
+            statusChunks.putAll(byStatus);
+            for (var status : affectedStatuses) {
+                var merged = byStatus.getOrDefault(status, Chunks.EMPTY_CHUNKS).apply(changedIds,
+                        upserts.stream().filter(document -> document.getStatus() == status).toList());
+                statusChunks.put(status, merged);
+            }
+            var userBuckets = new ArrayList<>(byUser);
+            var copiedBuckets = new HashSet<Integer>();
+            for (var userId : affectedUsers) {
+                var bucket = bucketOf(userId);
+                if (copiedBuckets.add(bucket)) {
+                    userBuckets.set(bucket, new HashMap<>(byUser.get(bucket)));
+                }
+                var merged = userDocuments(userId).apply(changedIds,
+                        upserts.stream().filter(document -> userId.equals(document.getUserId())).toList());
+                if (merged.size() == 0) {
+                    userBuckets.get(bucket).remove(userId);
+                } else {
+                    userBuckets.get(bucket).put(userId, merged);
+                }
+            }
+            return new Shard(documents.apply(changedIds, upserts), statusChunks, userBuckets);
+        }
+
+        private static int bucketOf(UUID userId) {
+            var hash = userId.hashCode();
+            return (hash ^ (hash >>> 16)) & (USER_BUCKETS - 1);
+        }
+
+    }
+
+    // An id-sorted list split into chunks of about CHUNK_SIZE documents. Applying changes copies the outer array
+    // and the chunks that hold a changed id; every other chunk is shared with the previous snapshot.
+    private static final class Chunks {
+
+        private static final Chunks EMPTY_CHUNKS = new Chunks(new IcesiDocumentSummaryDTO[0][], 0);
+
+        private final IcesiDocumentSummaryDTO[][] chunks;
+        private final int size;
+
+        private Chunks(IcesiDocumentSummaryDTO[][] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        static Chunks of(IcesiDocumentSummaryDTO[] sorted) {
+            var chunks = new ArrayList<IcesiDocumentSummaryDTO[]>(sorted.length / CHUNK_SIZE + 1);
+            split(sorted, chunks);
+            return new Chunks(chunks.toArray(IcesiDocumentSummaryDTO[][]::new), sorted.length);
+        }
+
+        int size() {
+            return size;
+        }
+
+        IcesiDocumentSummaryDTO find(UUID documentId) {
+            return chunks.length == 0 ? null : IcesiDocumentReadModel.find(chunks[chunkOf(documentId)], documentId);
+        }
+
+        void forEach(Consumer<IcesiDocumentSummaryDTO> consumer) {
+            for (var chunk : chunks) {
+                for (var document : chunk) {
+                    consumer.accept(document);
+                }
+            }
+        }
+
+        Cursor cursor(UUID after) {
+            if (chunks.length == 0) {
+                return null;
+            }
+            var chunk = after == null ? 0 : chunkOf(after);
+            var index = after == null ? 0 : IcesiDocumentReadModel.upperBound(chunks[chunk], after);
+            if (index == chunks[chunk].length) {
+                chunk++;
+                index = 0;
+            }
+            return chunk < chunks.length ? new Cursor(chunks, chunk, index) : null;
+        }
+
+        Chunks apply(Set<UUID> changedIds, List<IcesiDocumentSummaryDTO> upserts) {
+            if (chunks.length == 0) {
+                return upserts.isEmpty() ? this : of(upserts.toArray(EMPTY));
+            }
+            var changesByChunk = new HashMap<Integer, List<IcesiDocumentSummaryDTO>>();
+            for (var documentId : changedIds) {
+                var chunk = chunkOf(documentId);
+                if (IcesiDocumentReadModel.find(chunks[chunk], documentId) != null) {
+                    changesByChunk.computeIfAbsent(chunk, index -> new ArrayList<>());
+                }
+            }
+            for (var document : upserts) {
+                changesByChunk.computeIfAbsent(chunkOf(document.getIcesiDocumentId()), index -> new ArrayList<>()).add(document);
+            }
+            if (changesByChunk.isEmpty()) {
+                return this;
+            }
+            var updated = new ArrayList<IcesiDocumentSummaryDTO[]>(chunks.length + changesByChunk.size());
+            var updatedSize = size;
+            for (int index = 0; index < chunks.length; index++) {
+                var chunkUpserts = changesByChunk.get(index);
+                if (chunkUpserts == null) {
+                    updated.add(chunks[index]);
+                    continue;
+                }
+                var merged = merge(chunks[index], changedIds, chunkUpserts);
+                updatedSize += merged.length - chunks[index].length;
+                split(merged, updated);
+            }
+            return new Chunks(updated.toArray(IcesiDocumentSummaryDTO[][]::new), updatedSize);
+        }
+
+        // First chunk whose last id is not below the given id; ids past the end belong to the last chunk.
+        private int chunkOf(UUID documentId) {
+            int low = 0;
+            int high = chunks.length - 1;
+            while (low < high) {
+                var middle = (low + high) >>> 1;
+                var last = chunks[middle][chunks[middle].length - 1];
+                if (UNSIGNED.compare(last.getIcesiDocumentId(), documentId) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private static void split(IcesiDocumentSummaryDTO[] sorted, List<IcesiDocumentSummaryDTO[]> chunks) {
+            var count = (sorted.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            for (int index = 0; index < count; index++) {
+                chunks.add(Arrays.copyOfRange(sorted, (int) ((long) sorted.length * index / count),
+                        (int) ((long) sorted.length * (index + 1) / count)));
+            }
+        }
+
+    }
+
+    private static final class Cursor {
+
+        private final IcesiDocumentSummaryDTO[][] chunks;
+        private int chunk;
+        private int index;
+
+        private Cursor(IcesiDocumentSummaryDTO[][] chunks, int chunk, int index) {
+            this.chunks = chunks;
+            this.chunk = chunk;
+            this.index = index;
+        }
+
+        IcesiDocumentSummaryDTO current() {
+            return chunks[chunk][index];
+        }
+
+        boolean advance() {
+            if (++index < chunks[chunk].length) {
+                return true;
+            }
+            index = 0;
+            return ++chunk < chunks.length;
+        }
+
+    }
+
+}
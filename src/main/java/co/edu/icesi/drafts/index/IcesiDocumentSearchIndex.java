@@ -0,0 +1,177 @@
+package co.edu.icesi.drafts.index;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentSummaryDTO;
+import co.edu.icesi.drafts.event.IcesiDocumentChange;
+import co.edu.icesi.drafts.event.IcesiDocumentsChangedEvent;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class IcesiDocumentSearchIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float TEXT_WEIGHT = 1f;
+
+    private final IcesiDocumentRepository documentRepository;
+    private final Map<String, Map<UUID, Float>> postings = new ConcurrentHashMap<>();
+    private final Map<UUID, IndexedDocument> documents = new ConcurrentHashMap<>();
+
+    public IcesiDocumentSearchIndex(IcesiDocumentRepository documentRepository) {
+        this.documentRepository = documentRepository;
+    }
+
+    public void rebuild() {
+        var pageable = PageRequest.ofSize(REBUILD_PAGE_SIZE);
+        var page = documentRepository.findDocumentDTOPage(pageable);
+        while (!page.isEmpty()) {
+            page.forEach(this::index);
+            page = page.size() < REBUILD_PAGE_SIZE
+                    ? List.of()
+                    : documentRepository.findDocumentDTOPageAfter(page.get(page.size() - 1).getIcesiDocumentId(), pageable);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentsChanged(IcesiDocumentsChangedEvent event) {
+        event.changes().stream()
+                .map(IcesiDocumentChange::after)
+                .forEach(this::index);
+    }
+
+    public void index(IcesiDocumentDTO document) {
+        var weights = new HashMap<String, Float>();
+        tokenize(document.getTitle()).forEach(term -> weights.merge(term, TITLE_WEIGHT, Float::sum));
+        tokenize(document.getText()).forEach(term -> weights.merge(term, TEXT_WEIGHT, Float::sum));
+        var summary = IcesiDocumentSummaryDTO.builder()
+                .icesiDocumentId(document.getIcesiDocumentId())
+                .title(document.getTitle())
+                .status(document.getStatus())
+                .userId(document.getUserId())
+                .version(document.getVersion())
+                .build();
+        documents.compute(document.getIcesiDocumentId(), (documentId, previous) -> {
+            if (previous != null && isNewer(previous.summary(), document)) {
+                return previous;
+            }
+            if (previous != null) {
+                previous.terms().stream()
+                        .filter(term -> !weights.containsKey(term))
+                        .forEach(term -> removePosting(term, documentId));
+            }
+            weights.forEach((term, weight) -> postings.compute(term, (key, posting) -> {
+                var termPosting = posting == null ? new ConcurrentHashMap<UUID, Float>() : posting;
+                termPosting.put(documentId, weight);
+                return termPosting;
+            }));
+            return new IndexedDocument(summary, weights.keySet());
+        });
+    }
+
+    public List<IcesiDocumentSummaryDTO> search(String query, IcesiDocumentStatus status, UUID userId, int limit) {
+        var terms = new HashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        var termPostings = new ArrayList<Map<UUID, Float>>(terms.size());
+        for (var term : terms) {
+            var posting = postings.get(term);
+            if (posting == null) {
+                return List.of();
+            }
+            termPostings.add(posting);
+        }
+        termPostings.sort(Comparator.comparingInt(Map::size));
+        var idfs = termPostings.stream()
+                .mapToDouble(posting -> Math.log(1 + (double) documents.size() / posting.size()))
+                .toArray();
+
+        var ranking = new PriorityQueue<ScoredDocument>(Comparator.comparingDouble(ScoredDocument::score));
+        for (var candidate : termPostings.get(0).keySet()) {
+            var indexed = documents.get(candidate);
+            if (indexed == null || !matches(indexed.summary(), status, userId)) {
+                continue;
+            }
+            var score = score(candidate, termPostings, idfs);
+            if (score > 0) {
+                ranking.offer(new ScoredDocument(indexed.summary(), score));
+                if (ranking.size() > limit) {
+                    ranking.poll();
+                }
+            }
+        }
+        var results = new ArrayList<IcesiDocumentSummaryDTO>(ranking.size());
+        while (!ranking.isEmpty()) {
+            results.add(ranking.poll().document());
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    private double score(UUID documentId, List<Map<UUID, Float>> termPostings, double[] idfs) {
+        var score = 0d;
+        for (int i = 0; i < termPostings.size(); i++) {
+            var weight = termPostings.get(i).get(documentId);
+            if (weight == null) {
+                return 0;
+            }
+            score += weight * idfs[i];
+        }
+        return score;
+    }
+
+    // Listeners for different commits may run out of order; an older after-image must not replace a newer one.
+    private static boolean isNewer(IcesiDocumentSummaryDTO current, IcesiDocumentDTO candidate) {
+        return current.getVersion() != null && candidate.getVersion() != null
+                && current.getVersion() > candidate.getVersion();
+    }
+
+    private boolean matches(IcesiDocumentSummaryDTO document, IcesiDocumentStatus status, UUID userId) {
+        return (status == null || status == document.getStatus())
+                && (userId == null || userId.equals(document.getUserId()));
+    }
+
+    private void removePosting(String term, UUID documentId) {
+        postings.computeIfPresent(term, (key, posting) -> {
+            posting.remove(documentId);
+            return posting.isEmpty() ? null : posting;
+        });
+    }
+
+    static List<String> tokenize(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        var normalized = Normalizer.normalize(value, Normalizer.Form.NFD);
+        var terms = new ArrayList<String>();
+        var term = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            var character = normalized.charAt(i);
+            if (Character.isLetterOrDigit(character)) {
+                term.append(Character.toLowerCase(character));
+            } else if (Character.getType(character) != Character.NON_SPACING_MARK && term.length() > 0) {
+                terms.add(term.toString());
+                term.setLength(0);
+            }
+        }
+        if (term.length() > 0) {
+            terms.add(term.toString());
+        }
+        return terms;
+    }
+
+    private record IndexedDocument(IcesiDocumentSummaryDTO summary, Set<String> terms) {
+    }
+
+    private record ScoredDocument(IcesiDocumentSummaryDTO document, double score) {
+    }
+
+}
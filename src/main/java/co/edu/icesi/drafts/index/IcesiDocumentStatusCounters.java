@@ -0,0 +1,167 @@
+package co.edu.icesi.drafts.index;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentCountDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentCountsDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.event.IcesiDocumentChange;
+import co.edu.icesi.drafts.event.IcesiDocumentsChangedEvent;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+@Component
+public class IcesiDocumentStatusCounters implements MeterBinder {
+
+    private static final IcesiDocumentStatus[] STATUSES = IcesiDocumentStatus.values();
+
+    private final IcesiDocumentRepository documentRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private final AtomicLongArray byStatus = new AtomicLongArray(STATUSES.length);
+    private final Map<UUID, AtomicLongArray> byUser = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private List<IcesiDocumentChange> changesDuringRebuild;
+
+    public IcesiDocumentStatusCounters(IcesiDocumentRepository documentRepository, PlatformTransactionManager transactionManager) {
+        this.documentRepository = documentRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+    }
+
+    // Counts are deltas, so a change that committed while the COUNT query ran must be replayed only if the query
+    // missed it. The versions the query saw are read in the same snapshot and decide which buffered changes apply.
+    public void rebuild() {
+        synchronized (writeLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            snapshotTransaction.executeWithoutResult(transaction -> {
+                var counts = documentRepository.countByUserAndStatus();
+                synchronized (writeLock) {
+                    var seenVersions = seenVersions(changesDuringRebuild);
+                    for (int index = 0; index < STATUSES.length; index++) {
+                        byStatus.set(index, 0);
+                    }
+                    byUser.clear();
+                    counts.forEach(this::add);
+                    changesDuringRebuild.stream()
+                            .filter(change -> isMissing(change.after(), seenVersions))
+                            .forEach(this::apply);
+                }
+            });
+        } finally {
+            synchronized (writeLock) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentsChanged(IcesiDocumentsChangedEvent event) {
+        synchronized (writeLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.addAll(event.changes());
+            }
+            event.changes().forEach(this::apply);
+        }
+    }
+
+    public IcesiDocumentCountsDTO getCounts() {
+        return toCounts(null, byStatus);
+    }
+
+    public IcesiDocumentCountsDTO getCounts(UUID userId) {
+        return toCounts(userId, byUser.getOrDefault(userId, new AtomicLongArray(STATUSES.length)));
+    }
+
+    public long getCount(IcesiDocumentStatus status) {
+        return byStatus.get(status.ordinal());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (var status : STATUSES) {
+            Gauge.builder("drafts.documents", byStatus, counters -> counters.get(status.ordinal()))
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+    }
+
+    private Map<UUID, Long> seenVersions(List<IcesiDocumentChange> changes) {
+        var documentIds = changes.stream()
+                .map(IcesiDocumentChange::after)
+                .filter(Objects::nonNull)
+                .map(IcesiDocumentDTO::getIcesiDocumentId)
+                .collect(Collectors.toSet());
+        var versions = new HashMap<UUID, Long>();
+        if (!documentIds.isEmpty()) {
+            documentRepository.findDocumentDTOsByIds(documentIds).stream()
+                    .filter(document -> document.getVersion() != null)
+                    .forEach(document -> versions.put(document.getIcesiDocumentId(), document.getVersion()));
+        }
+        return versions;
+    }
+
+    private static boolean isMissing(IcesiDocumentDTO after, Map<UUID, Long> seenVersions) {
+        if (after == null) {
+            return true;
+        }
+        var seen = seenVersions.get(after.getIcesiDocumentId());
+        return seen == null || after.getVersion() == null || seen < after.getVersion();
+    }
+
+    private void apply(IcesiDocumentChange change) {
+        move(change.before(), -1);
+        move(change.after(), 1);
+    }
+
+    private void add(IcesiDocumentCountDTO count) {
+        if (count.getStatus() == null) {
+            return;
+        }
+        byStatus.addAndGet(count.getStatus().ordinal(), count.getCount());
+        userCounters(count.getUserId()).addAndGet(count.getStatus().ordinal(), count.getCount());
+    }
+
+    private void move(IcesiDocumentDTO document, int delta) {
+        if (document == null || document.getStatus() == null) {
+            return;
+        }
+        byStatus.addAndGet(document.getStatus().ordinal(), delta);
+        if (document.getUserId() != null) {
+            userCounters(document.getUserId()).addAndGet(document.getStatus().ordinal(), delta);
+        }
+    }
+
+    private AtomicLongArray userCounters(UUID userId) {
+        return byUser.computeIfAbsent(userId, key -> new AtomicLongArray(STATUSES.length));
+    }
+
+    private IcesiDocumentCountsDTO toCounts(UUID userId, AtomicLongArray counters) {
+        var counts = new EnumMap<IcesiDocumentStatus, Long>(IcesiDocumentStatus.class);
+        var total = 0L;
+        for (var status : STATUSES) {
+            var count = counters.get(status.ordinal());
+            counts.put(status, count);
+            total += count;
+        }
+        return IcesiDocumentCountsDTO.builder()
+                .userId(userId)
+                .total(total)
+                .byStatus(counts)
+                .build();
+    }
+
+}
@@ -0,0 +1,42 @@
+package co.edu.icesi.drafts.index;
+
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class IcesiDocumentTitleIndex {
+
+    private final IcesiDocumentRepository documentRepository;
+    private final Set<String> titles = ConcurrentHashMap.newKeySet();
+    private volatile boolean warm;
+
+    public IcesiDocumentTitleIndex(IcesiDocumentRepository documentRepository) {
+        this.documentRepository = documentRepository;
+    }
+
+    public void warm() {
+        warm(documentRepository.findAllTitles());
+    }
+
+    public void warm(Collection<String> existingTitles) {
+        titles.addAll(existingTitles);
+        warm = true;
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    public boolean reserve(String title) {
+        return titles.add(title);
+    }
+
+    public void release(String title) {
+        titles.remove(title);
+    }
+
+}
@@ -3,12 +3,17 @@ package co.edu.icesi.drafts.mapper;
 import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
 import co.edu.icesi.drafts.model.IcesiDocument;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface IcesiDocumentMapper {
 
+    @Mapping(source = "icesiUser.icesiUserId", target = "userId")
     IcesiDocumentDTO fromIcesiDocument(IcesiDocument icesiDocument);
 
+    @Mapping(target = "icesiUser", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
     IcesiDocument fromIcesiDocumentDTO(IcesiDocumentDTO icesiDocumentDTO);
 
 }
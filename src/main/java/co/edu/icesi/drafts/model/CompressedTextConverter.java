@@ -0,0 +1,102 @@
+package co.edu.icesi.drafts.model;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    private static final int COMPRESSION_THRESHOLD = 512;
+    private static final int BUFFER_SIZE = 4096;
+    private static final byte RAW = 0;
+    private static final byte DEFLATED = 1;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        return compress(text);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] data) {
+        return decompress(data);
+    }
+
+    public static byte[] compress(String text) {
+        if (text == null) {
+            return null;
+        }
+        var bytes = text.getBytes(UTF_8);
+        if (bytes.length >= COMPRESSION_THRESHOLD) {
+            var deflated = deflate(bytes);
+            if (deflated.length < bytes.length) {
+                return deflated;
+            }
+        }
+        var raw = new byte[bytes.length + 1];
+        raw[0] = RAW;
+        System.arraycopy(bytes, 0, raw, 1, bytes.length);
+        return raw;
+    }
+
+    public static String decompress(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length == 0) {
+            return "";
+        }
+        if (data[0] == RAW) {
+            return new String(data, 1, data.length - 1, UTF_8);
+        }
+        if (data[0] == DEFLATED) {
+            return new String(inflate(data), UTF_8);
+        }
+        // Text written before the marker byte existed
+        return new String(data, UTF_8);
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        var deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            var output = new ByteArrayOutputStream(bytes.length / 2 + 1);
+            output.write(DEFLATED);
+            var buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) {
+        var inflater = new Inflater();
+        try {
+            inflater.setInput(data, 1, data.length - 1);
+            var output = new ByteArrayOutputStream(data.length * 3);
+            var buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                var inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed text");
+                }
+                output.write(buffer, 0, inflated);
+            }
+            return output.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted compressed text", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
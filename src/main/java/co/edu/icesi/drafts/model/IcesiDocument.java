@@ -1,28 +1,52 @@
 package co.edu.icesi.drafts.model;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
+import java.time.Instant;
 import java.util.UUID;
 
 @Entity
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_icesi_document_created_at", columnList = "createdAt"),
+        @Index(name = "idx_icesi_document_status", columnList = "status, icesiDocumentId"),
+        @Index(name = "idx_icesi_document_user", columnList = "icesi_user_documents, icesiDocumentId"),
+        @Index(name = "idx_icesi_document_user_status", columnList = "icesi_user_documents, status, icesiDocumentId")
+})
 public class IcesiDocument {
 
     @Id
-    @Type(type = "uuid-char")
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @Type(type = "uuid-binary")
+    @Column(columnDefinition = "binary(16)")
+    @GeneratedValue(generator = "uuid7")
+    @GenericGenerator(name = "uuid7", strategy = "co.edu.icesi.drafts.model.TimeOrderedUUIDGenerator")
     private UUID icesiDocumentId;
+    @Column(unique = true)
     private String title;
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = CompressedTextConverter.class)
     private String text;
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
     private IcesiDocumentStatus status;
-    @ManyToOne(optional = false)
-    @JoinColumn(name = "icesi_user_documents")
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "icesi_user_documents", columnDefinition = "binary(16)")
     private IcesiUser icesiUser;
+    @Version
+    private Long version;
+    @CreationTimestamp
+    @Column(updatable = false)
+    private Instant createdAt;
 
 }
@@ -0,0 +1,51 @@
+package co.edu.icesi.drafts.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_icesi_document_revision_version", columnList = "documentId, version", unique = true)
+})
+public class IcesiDocumentRevision {
+
+    @Id
+    @Type(type = "uuid-binary")
+    @Column(columnDefinition = "binary(16)")
+    @GeneratedValue(generator = "uuid7")
+    @GenericGenerator(name = "uuid7", strategy = "co.edu.icesi.drafts.model.TimeOrderedUUIDGenerator")
+    private UUID icesiDocumentRevisionId;
+    @Type(type = "uuid-binary")
+    @Column(columnDefinition = "binary(16)", nullable = false)
+    private UUID documentId;
+    @Column(nullable = false)
+    private Long version;
+    private String title;
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private IcesiDocumentStatus status;
+    private boolean snapshot;
+    private int depth;
+    private int prefixLength;
+    private int suffixLength;
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    private String text;
+    @CreationTimestamp
+    @Column(updatable = false)
+    private Instant createdAt;
+
+}
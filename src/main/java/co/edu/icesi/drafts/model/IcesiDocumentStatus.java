@@ -1,5 +1,26 @@
 package co.edu.icesi.drafts.model;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum IcesiDocumentStatus {
-    DRAFT, REVISION, APPROVED
+    DRAFT, REVISION, APPROVED;
+
+    private static final Map<IcesiDocumentStatus, Set<IcesiDocumentStatus>> TRANSITIONS = new EnumMap<>(IcesiDocumentStatus.class);
+
+    static {
+        TRANSITIONS.put(DRAFT, EnumSet.of(DRAFT, REVISION));
+        TRANSITIONS.put(REVISION, EnumSet.of(REVISION, DRAFT, APPROVED));
+        TRANSITIONS.put(APPROVED, EnumSet.of(APPROVED));
+    }
+
+    public boolean canTransitionTo(IcesiDocumentStatus status) {
+        return TRANSITIONS.get(this).contains(status);
+    }
+
+    public boolean isEditable() {
+        return this == DRAFT || this == REVISION;
+    }
 }
@@ -1,7 +1,12 @@
 package co.edu.icesi.drafts.model;
 
+import co.edu.icesi.drafts.cache.IcesiUserCacheListener;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 
@@ -10,20 +15,26 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(IcesiUserCacheListener.class)
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class IcesiUser {
 
     @Id
-    @Type(type = "uuid-char")
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @Type(type = "uuid-binary")
+    @Column(columnDefinition = "binary(16)")
+    @GeneratedValue(generator = "uuid7")
+    @GenericGenerator(name = "uuid7", strategy = "co.edu.icesi.drafts.model.TimeOrderedUUIDGenerator")
     private UUID icesiUserId;
     private String firstName;
     private String lastName;
     private String code;
     private String email;
     private String phoneNumber;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "icesiUser")
     private List<IcesiDocument> documents;
 
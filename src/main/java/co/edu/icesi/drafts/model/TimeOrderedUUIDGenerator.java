@@ -0,0 +1,32 @@
+package co.edu.icesi.drafts.model;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.io.Serializable;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TimeOrderedUUIDGenerator implements IdentifierGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return next();
+    }
+
+    // UUIDv7 layout: 48 bits of unix millis, version, 12 bits of per-millisecond sequence, variant, 62 random bits
+    public static UUID next() {
+        var timestamp = LAST_TIMESTAMP.updateAndGet(last -> Math.max(last + 1, System.currentTimeMillis() << SEQUENCE_BITS));
+        var millis = timestamp >>> SEQUENCE_BITS;
+        var sequence = timestamp & SEQUENCE_MASK;
+        var mostSignificantBits = (millis << 16) | 0x7000L | sequence;
+        var leastSignificantBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+}
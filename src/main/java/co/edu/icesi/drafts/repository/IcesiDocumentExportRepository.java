@@ -0,0 +1,91 @@
+package co.edu.icesi.drafts.repository;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentExportDTO;
+import co.edu.icesi.drafts.model.CompressedTextConverter;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Repository
+@AllArgsConstructor
+public class IcesiDocumentExportRepository {
+
+    private static final int FETCH_SIZE = 500;
+    private static final String SELECT_DOCUMENTS = "select icesi_document_id, title, text, status, icesi_user_documents, version, created_at " +
+            "from icesi_document where 1 = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void forEachDocument(IcesiDocumentStatus status, UUID userId, Instant from, Instant to, Consumer<IcesiDocumentExportDTO> consumer) {
+        var sql = new StringBuilder(SELECT_DOCUMENTS);
+        var parameters = new ArrayList<>();
+        if (status != null) {
+            sql.append(" and status = ?");
+            parameters.add(status.name());
+        }
+        if (userId != null) {
+            sql.append(" and icesi_user_documents = ?");
+            parameters.add(toBytes(userId));
+        }
+        if (from != null) {
+            sql.append(" and created_at >= ?");
+            parameters.add(Timestamp.from(from));
+        }
+        if (to != null) {
+            sql.append(" and created_at < ?");
+            parameters.add(Timestamp.from(to));
+        }
+        jdbcTemplate.query(
+                connection -> {
+                    var statement = connection.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(FETCH_SIZE);
+                    for (int index = 0; index < parameters.size(); index++) {
+                        statement.setObject(index + 1, parameters.get(index));
+                    }
+                    return statement;
+                },
+                (RowCallbackHandler) resultSet -> consumer.accept(mapRow(resultSet))
+        );
+    }
+
+    private IcesiDocumentExportDTO mapRow(ResultSet resultSet) throws SQLException {
+        var status = resultSet.getString("status");
+        var createdAt = resultSet.getTimestamp("created_at");
+        return IcesiDocumentExportDTO.builder()
+                .icesiDocumentId(toUUID(resultSet.getBytes("icesi_document_id")))
+                .title(resultSet.getString("title"))
+                .text(CompressedTextConverter.decompress(resultSet.getBytes("text")))
+                .status(status == null ? null : IcesiDocumentStatus.valueOf(status))
+                .userId(toUUID(resultSet.getBytes("icesi_user_documents")))
+                .version(resultSet.getLong("version"))
+                .createdAt(createdAt == null ? null : createdAt.toInstant())
+                .build();
+    }
+
+    private static UUID toUUID(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+}
@@ -1,15 +1,129 @@
 package co.edu.icesi.drafts.repository;
 
+import co.edu.icesi.drafts.dto.IcesiDocumentCountDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentSummaryDTO;
 import co.edu.icesi.drafts.model.IcesiDocument;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-@NoRepositoryBean
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+@Repository
 public interface IcesiDocumentRepository extends JpaRepository<IcesiDocument, UUID> {
 
+    String SELECT_DOCUMENT_DTO = "select new co.edu.icesi.drafts.dto.IcesiDocumentDTO(" +
+            "d.icesiDocumentId, d.title, d.text, d.status, d.icesiUser.icesiUserId, d.version) from IcesiDocument d ";
+
+    String SELECT_DOCUMENT_SUMMARY_DTO = "select new co.edu.icesi.drafts.dto.IcesiDocumentSummaryDTO(" +
+            "d.icesiDocumentId, d.title, d.status, d.icesiUser.icesiUserId, d.version) from IcesiDocument d ";
+
     Optional<IcesiDocument> findByTitle(String title);
 
+    @Query("select d.title from IcesiDocument d where d.title in :titles")
+    List<String> findExistingTitles(@Param("titles") Collection<String> titles);
+
+    @Query("select d.title from IcesiDocument d")
+    List<String> findAllTitles();
+
+    @Query(SELECT_DOCUMENT_DTO + "where d.icesiDocumentId = :documentId")
+    Optional<IcesiDocumentDTO> findDocumentDTOById(@Param("documentId") UUID documentId);
+
+    @Query(SELECT_DOCUMENT_DTO + "where d.icesiDocumentId in :documentIds")
+    List<IcesiDocumentDTO> findDocumentDTOsByIds(@Param("documentIds") Collection<UUID> documentIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update IcesiDocument d set d.status = :status, d.version = d.version + 1 " +
+            "where d.icesiDocumentId in :documentIds and d.status = :from")
+    int updateStatus(@Param("documentIds") Collection<UUID> documentIds, @Param("from") IcesiDocumentStatus from,
+                     @Param("status") IcesiDocumentStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update IcesiDocument d set d.status = :status, d.text = :text, d.version = d.version + 1 " +
+            "where d.icesiDocumentId in :documentIds and d.status = :from")
+    int updateStatusAndText(@Param("documentIds") Collection<UUID> documentIds, @Param("from") IcesiDocumentStatus from,
+                            @Param("status") IcesiDocumentStatus status, @Param("text") String text);
+
+    @Query("select d.version from IcesiDocument d where d.icesiDocumentId = :documentId")
+    Optional<Long> findVersionById(@Param("documentId") UUID documentId);
+
+    @Query("select d.icesiUser.icesiUserId from IcesiDocument d where d.icesiDocumentId = :documentId")
+    Optional<UUID> findUserIdById(@Param("documentId") UUID documentId);
+
+    @Query("select d.status from IcesiDocument d where d.icesiDocumentId = :documentId")
+    Optional<IcesiDocumentStatus> findStatusById(@Param("documentId") UUID documentId);
+
+    @Query(SELECT_DOCUMENT_DTO + "order by d.icesiDocumentId")
+    List<IcesiDocumentDTO> findDocumentDTOPage(Pageable pageable);
+
+    @Query(SELECT_DOCUMENT_DTO + "where d.icesiDocumentId > :after order by d.icesiDocumentId")
+    List<IcesiDocumentDTO> findDocumentDTOPageAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Query(SELECT_DOCUMENT_DTO + "where d.status = :status order by d.icesiDocumentId")
+    List<IcesiDocumentDTO> findDocumentDTOPageByStatus(@Param("status") IcesiDocumentStatus status, Pageable pageable);
+
+    @Query(SELECT_DOCUMENT_DTO + "where d.status = :status and d.icesiDocumentId > :after order by d.icesiDocumentId")
+    List<IcesiDocumentDTO> findDocumentDTOPageByStatusAfter(@Param("status") IcesiDocumentStatus status,
+                                                            @Param("after") UUID after, Pageable pageable);
+
+    long countByStatus(IcesiDocumentStatus status);
+
+    @Query(SELECT_DOCUMENT_SUMMARY_DTO + "order by d.icesiDocumentId")
+    List<IcesiDocumentSummaryDTO> findDocumentSummaryPage(Pageable pageable);
+
+    @Query(SELECT_DOCUMENT_SUMMARY_DTO + "where d.icesiDocumentId > :after order by d.icesiDocumentId")
+    List<IcesiDocumentSummaryDTO> findDocumentSummaryPageAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Query(SELECT_DOCUMENT_SUMMARY_DTO + "where d.status = :status order by d.icesiDocumentId")
+    List<IcesiDocumentSummaryDTO> findDocumentSummaryPageByStatus(@Param("status") IcesiDocumentStatus status, Pageable pageable);
+
+    @Query(SELECT_DOCUMENT_SUMMARY_DTO + "where d.status = :status and d.icesiDocumentId > :after order by d.icesiDocumentId")
+    List<IcesiDocumentSummaryDTO> findDocumentSummaryPageByStatusAfter(@Param("status") IcesiDocumentStatus status,
+                                                                       @Param("after") UUID after, Pageable pageable);
+
+    @Query(SELECT_DOCUMENT_SUMMARY_DTO + "where d.icesiUser.icesiUserId = :userId order by d.icesiDocumentId")
+    List<IcesiDocumentSummaryDTO> findDocumentSummaryPageByUser(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query(SELECT_DOCUMENT_SUMMARY_DTO + "where d.icesiUser.icesiUserId = :userId and d.icesiDocumentId > :after " +
+            "order by d.icesiDocumentId")
+    List<IcesiDocumentSummaryDTO> findDocumentSummaryPageByUserAfter(@Param("userId") UUID userId, @Param("after") UUID after,
+                                                                     Pageable pageable);
+
+    @Query(SELECT_DOCUMENT_SUMMARY_DTO + "where d.icesiUser.icesiUserId = :userId and d.status = :status " +
+            "order by d.icesiDocumentId")
+    List<IcesiDocumentSummaryDTO> findDocumentSummaryPageByUserAndStatus(@Param("userId") UUID userId,
+                                                                         @Param("status") IcesiDocumentStatus status,
+                                                                         Pageable pageable);
+
+    @Query(SELECT_DOCUMENT_SUMMARY_DTO + "where d.icesiUser.icesiUserId = :userId and d.status = :status " +
+            "and d.icesiDocumentId > :after order by d.icesiDocumentId")
+    List<IcesiDocumentSummaryDTO> findDocumentSummaryPageByUserAndStatusAfter(@Param("userId") UUID userId,
+                                                                              @Param("status") IcesiDocumentStatus status,
+                                                                              @Param("after") UUID after, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DOCUMENT_SUMMARY_DTO)
+    Stream<IcesiDocumentSummaryDTO> streamAllDocumentSummaries();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DOCUMENT_SUMMARY_DTO + "where d.status = :status order by d.icesiDocumentId")
+    Stream<IcesiDocumentSummaryDTO> streamDocumentSummariesByStatus(@Param("status") IcesiDocumentStatus status);
+
+    @Query("select new co.edu.icesi.drafts.dto.IcesiDocumentCountDTO(d.icesiUser.icesiUserId, d.status, count(d)) " +
+            "from IcesiDocument d group by d.icesiUser.icesiUserId, d.status")
+    List<IcesiDocumentCountDTO> countByUserAndStatus();
+
 }
@@ -0,0 +1,35 @@
+package co.edu.icesi.drafts.repository;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentRevisionDTO;
+import co.edu.icesi.drafts.model.IcesiDocumentRevision;
+import co.edu.icesi.drafts.revision.IcesiDocumentRevisionHead;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IcesiDocumentRevisionRepository extends JpaRepository<IcesiDocumentRevision, UUID> {
+
+    @Query("select new co.edu.icesi.drafts.revision.IcesiDocumentRevisionHead(r.version, r.depth) " +
+            "from IcesiDocumentRevision r where r.documentId = :documentId and r.version = " +
+            "(select max(h.version) from IcesiDocumentRevision h where h.documentId = :documentId)")
+    Optional<IcesiDocumentRevisionHead> findHead(@Param("documentId") UUID documentId);
+
+    @Query("select new co.edu.icesi.drafts.dto.IcesiDocumentRevisionDTO(r.version, r.title, r.status, r.snapshot, r.createdAt) " +
+            "from IcesiDocumentRevision r where r.documentId = :documentId order by r.version desc")
+    List<IcesiDocumentRevisionDTO> findRevisionDTOs(@Param("documentId") UUID documentId);
+
+    @Query("select max(r.version) from IcesiDocumentRevision r " +
+            "where r.documentId = :documentId and r.snapshot = true and r.version <= :version")
+    Optional<Long> findSnapshotVersion(@Param("documentId") UUID documentId, @Param("version") Long version);
+
+    @Query("select r from IcesiDocumentRevision r " +
+            "where r.documentId = :documentId and r.version between :from and :to order by r.version")
+    List<IcesiDocumentRevision> findChain(@Param("documentId") UUID documentId, @Param("from") Long from, @Param("to") Long to);
+
+}
@@ -0,0 +1,4 @@
+package co.edu.icesi.drafts.revision;
+
+public record IcesiDocumentRevisionHead(Long version, int depth) {
+}
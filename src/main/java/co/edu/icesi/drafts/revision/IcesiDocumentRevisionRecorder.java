@@ -0,0 +1,69 @@
+package co.edu.icesi.drafts.revision;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.model.IcesiDocumentRevision;
+import co.edu.icesi.drafts.repository.IcesiDocumentRevisionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+@Component
+public class IcesiDocumentRevisionRecorder {
+
+    private final IcesiDocumentRevisionRepository revisionRepository;
+    private final boolean enabled;
+    private final int snapshotInterval;
+
+    @Autowired
+    public IcesiDocumentRevisionRecorder(IcesiDocumentRevisionRepository revisionRepository,
+                                         @Value("${drafts.revisions.enabled:true}") boolean enabled,
+                                         @Value("${drafts.revisions.snapshot-interval:16}") int snapshotInterval) {
+        this.revisionRepository = revisionRepository;
+        this.enabled = enabled;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+    }
+
+    public void record(IcesiDocumentDTO before, IcesiDocumentDTO after) {
+        if (!enabled || Objects.equals(before.getVersion(), after.getVersion())) {
+            return;
+        }
+        var revisions = new ArrayList<IcesiDocumentRevision>(2);
+        var head = revisionRepository.findHead(after.getIcesiDocumentId())
+                .filter(revision -> Objects.equals(revision.version(), before.getVersion()));
+        var depth = head.map(IcesiDocumentRevisionHead::depth).orElse(0);
+        if (head.isEmpty()) {
+            revisions.add(snapshot(before));
+        }
+        if (depth + 1 >= snapshotInterval) {
+            revisions.add(snapshot(after));
+        } else {
+            var delta = TextDelta.diff(before.getText(), after.getText());
+            revisions.add(IcesiDocumentRevision.builder()
+                    .documentId(after.getIcesiDocumentId())
+                    .version(after.getVersion())
+                    .title(after.getTitle())
+                    .status(after.getStatus())
+                    .depth(depth + 1)
+                    .prefixLength(delta.prefixLength())
+                    .suffixLength(delta.suffixLength())
+                    .text(delta.inserted())
+                    .build());
+        }
+        revisionRepository.saveAll(revisions);
+    }
+
+    private IcesiDocumentRevision snapshot(IcesiDocumentDTO document) {
+        return IcesiDocumentRevision.builder()
+                .documentId(document.getIcesiDocumentId())
+                .version(document.getVersion())
+                .title(document.getTitle())
+                .status(document.getStatus())
+                .snapshot(true)
+                .text(document.getText())
+                .build();
+    }
+
+}
@@ -0,0 +1,36 @@
+package co.edu.icesi.drafts.revision;
+
+public record TextDelta(int prefixLength, int suffixLength, String inserted) {
+
+    public static TextDelta diff(String from, String to) {
+        var source = from == null ? "" : from;
+        var target = to == null ? "" : to;
+        var limit = Math.min(source.length(), target.length());
+        var prefix = 0;
+        while (prefix < limit && source.charAt(prefix) == target.charAt(prefix)) {
+            prefix++;
+        }
+        if (prefix > 0 && Character.isHighSurrogate(source.charAt(prefix - 1))) {
+            prefix--;
+        }
+        var suffix = 0;
+        while (suffix < limit - prefix
+                && source.charAt(source.length() - 1 - suffix) == target.charAt(target.length() - 1 - suffix)) {
+            suffix++;
+        }
+        if (suffix > 0 && Character.isLowSurrogate(source.charAt(source.length() - suffix))) {
+            suffix--;
+        }
+        return new TextDelta(prefix, suffix, target.substring(prefix, target.length() - suffix));
+    }
+
+    public String apply(String base) {
+        var source = base == null ? "" : base;
+        return new StringBuilder(prefixLength + inserted.length() + suffixLength)
+                .append(source, 0, prefixLength)
+                .append(inserted)
+                .append(source, source.length() - suffixLength, source.length())
+                .toString();
+    }
+
+}
@@ -0,0 +1,17 @@
+package co.edu.icesi.drafts.service;
+
+import co.edu.icesi.drafts.dto.IcesiExportFormat;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.UUID;
+
+public interface IcesiDocumentExportService {
+
+    IcesiExportFormat parseFormat(String format);
+
+    void exportDocuments(IcesiExportFormat format, IcesiDocumentStatus status, UUID userId, Instant from, Instant to,
+                         OutputStream outputStream);
+
+}
@@ -0,0 +1,13 @@
+package co.edu.icesi.drafts.service;
+
+import co.edu.icesi.drafts.dto.IcesiImportJobDTO;
+
+import java.io.InputStream;
+
+public interface IcesiDocumentImportService {
+
+    IcesiImportJobDTO startImport(InputStream ndjson);
+
+    IcesiImportJobDTO getImport(String jobId);
+
+}
@@ -0,0 +1,16 @@
+package co.edu.icesi.drafts.service;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentRevisionDTO;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public interface IcesiDocumentRevisionService {
+
+    List<IcesiDocumentRevisionDTO> getRevisions(String documentId);
+
+    IcesiDocumentDTO getRevision(String documentId, long version);
+
+}
@@ -1,17 +1,48 @@
 package co.edu.icesi.drafts.service;
 
+import co.edu.icesi.drafts.dto.IcesiDocumentBatchPatchDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentCountsDTO;
 import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentPageDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentPatchResultDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentSummaryDTO;
+import co.edu.icesi.drafts.dto.IcesiReadModelConsistencyDTO;
+import co.edu.icesi.drafts.error.exception.IcesiErrorDetail;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 public interface IcesiDocumentService {
-    List<IcesiDocumentDTO> getAllDocuments();
+    IcesiDocumentPageDTO getDocuments(int limit, UUID after, IcesiDocumentStatus status);
+
+    IcesiDocumentPageDTO getUserDocuments(String userId, int limit, UUID after, IcesiDocumentStatus status);
+
+    void forEachDocument(IcesiDocumentStatus status, Consumer<IcesiDocumentSummaryDTO> consumer);
+
+    IcesiDocumentCountsDTO getDocumentCounts(UUID userId);
+
+    IcesiReadModelConsistencyDTO checkReadModelConsistency();
+
+    IcesiDocumentDTO getDocument(String documentId);
+
+    List<IcesiDocumentSummaryDTO> searchDocuments(String query, IcesiDocumentStatus status, UUID userId, int limit);
+
+    Long getDocumentVersion(String documentId);
 
     List<IcesiDocumentDTO> createDocuments(List<IcesiDocumentDTO> documentsDTO);
 
+    Map<Integer, List<IcesiErrorDetail>> importDocuments(List<IcesiDocumentDTO> documentsDTO);
+
+    List<IcesiDocumentPatchResultDTO> patchDocuments(IcesiDocumentBatchPatchDTO patch);
+
     IcesiDocumentDTO updateDocument(String documentId, IcesiDocumentDTO icesiDocumentDTO);
 
+    void autosaveDocument(String documentId, String text);
+
     IcesiDocumentDTO createDocument(IcesiDocumentDTO icesiDocumentDTO);
 }
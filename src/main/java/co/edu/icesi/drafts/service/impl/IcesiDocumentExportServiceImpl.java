@@ -0,0 +1,130 @@
+package co.edu.icesi.drafts.service.impl;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentExportDTO;
+import co.edu.icesi.drafts.dto.IcesiExportFormat;
+import co.edu.icesi.drafts.error.exception.DetailBuilder;
+import co.edu.icesi.drafts.error.exception.ErrorCode;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.repository.IcesiDocumentExportRepository;
+import co.edu.icesi.drafts.service.IcesiDocumentExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static co.edu.icesi.drafts.error.util.IcesiExceptionBuilder.createIcesiException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Service
+@AllArgsConstructor
+class IcesiDocumentExportServiceImpl implements IcesiDocumentExportService {
+
+    private static final String CSV_HEADER = "icesiDocumentId,title,status,userId,version,createdAt,text";
+
+    private final IcesiDocumentExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public IcesiExportFormat parseFormat(String format) {
+        return IcesiExportFormat.fromValue(format)
+                .orElseThrow(
+                        createIcesiException(
+                                "Export format not supported",
+                                new DetailBuilder(ErrorCode.ERR_400, "format", "must be one of ndjson, csv")
+                        )
+                );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportDocuments(IcesiExportFormat format, IcesiDocumentStatus status, UUID userId, Instant from, Instant to,
+                                OutputStream outputStream) {
+        try {
+            switch (format) {
+                case NDJSON -> exportNdjson(status, userId, from, to, outputStream);
+                case CSV -> exportCsv(status, userId, from, to, outputStream);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void exportNdjson(IcesiDocumentStatus status, UUID userId, Instant from, Instant to, OutputStream outputStream) throws IOException {
+        try (var writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+            exportRepository.forEachDocument(status, userId, from, to, flushingFirst(document -> {
+                try {
+                    writer.write(document);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, writer));
+        }
+    }
+
+    private void exportCsv(IcesiDocumentStatus status, UUID userId, Instant from, Instant to, OutputStream outputStream) throws IOException {
+        try (var writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8))) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+            writer.flush();
+            exportRepository.forEachDocument(status, userId, from, to, flushingFirst(document -> {
+                try {
+                    writeCsvRow(writer, document);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, writer));
+        }
+    }
+
+    private void writeCsvRow(Writer writer, IcesiDocumentExportDTO document) throws IOException {
+        writer.write(Objects.toString(document.getIcesiDocumentId(), ""));
+        writer.write(',');
+        writeCsvField(writer, document.getTitle());
+        writer.write(',');
+        writer.write(Objects.toString(document.getStatus(), ""));
+        writer.write(',');
+        writer.write(Objects.toString(document.getUserId(), ""));
+        writer.write(',');
+        writer.write(Objects.toString(document.getVersion(), ""));
+        writer.write(',');
+        writer.write(Objects.toString(document.getCreatedAt(), ""));
+        writer.write(',');
+        writeCsvField(writer, document.getText());
+        writer.write("\r\n");
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private Consumer<IcesiDocumentExportDTO> flushingFirst(Consumer<IcesiDocumentExportDTO> consumer, Flushable flushable) {
+        var first = new boolean[]{true};
+        return document -> {
+            consumer.accept(document);
+            if (first[0]) {
+                first[0] = false;
+                try {
+                    flushable.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+}
@@ -0,0 +1,235 @@
+package co.edu.icesi.drafts.service.impl;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiImportJobDTO;
+import co.edu.icesi.drafts.error.exception.DetailBuilder;
+import co.edu.icesi.drafts.error.exception.ErrorCode;
+import co.edu.icesi.drafts.error.exception.IcesiErrorDetail;
+import co.edu.icesi.drafts.error.exception.IcesiException;
+import co.edu.icesi.drafts.service.IcesiDocumentImportService;
+import co.edu.icesi.drafts.service.IcesiDocumentService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static co.edu.icesi.drafts.error.util.IcesiExceptionBuilder.createIcesiException;
+import static co.edu.icesi.drafts.error.util.IcesiExceptionBuilder.mapToIcesiErrorDetail;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Service
+class IcesiDocumentImportServiceImpl implements IcesiDocumentImportService {
+
+    private static final int SPOOL_BUFFER_SIZE = 64 * 1024;
+
+    private final IcesiDocumentService documentService;
+    private final ObjectReader documentReader;
+    private final Validator validator;
+    private final ThreadPoolExecutor executor;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final int chunkSize;
+    private final int maxLineErrors;
+    private final Duration retention;
+    private final long maxBytes;
+    private final Path spoolDirectory;
+
+    public IcesiDocumentImportServiceImpl(IcesiDocumentService documentService, ObjectMapper objectMapper, Validator validator,
+                                          @Value("${drafts.imports.chunk-size:1000}") int chunkSize,
+                                          @Value("${drafts.imports.concurrency:2}") int concurrency,
+                                          @Value("${drafts.imports.queue-capacity:8}") int queueCapacity,
+                                          @Value("${drafts.imports.max-line-errors:1000}") int maxLineErrors,
+                                          @Value("${drafts.imports.retention:24h}") Duration retention,
+                                          @Value("${drafts.imports.max-bytes:268435456}") long maxBytes,
+                                          @Value("${drafts.imports.spool-directory:${java.io.tmpdir}}") String spoolDirectory) {
+        this.documentService = documentService;
+        this.documentReader = objectMapper.readerFor(IcesiDocumentDTO.class);
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxLineErrors = maxLineErrors;
+        this.retention = retention;
+        this.maxBytes = maxBytes;
+        this.spoolDirectory = Path.of(spoolDirectory);
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("document-import-"));
+    }
+
+    @Override
+    public IcesiImportJobDTO startImport(InputStream ndjson) {
+        jobs.values().removeIf(job -> job.isFinishedBefore(Instant.now().minus(retention)));
+        if (executor.getQueue().remainingCapacity() == 0) {
+            throw busy();
+        }
+        var file = spool(ndjson);
+        var job = new ImportJob(maxLineErrors);
+        jobs.put(job.getJobId(), job);
+        try {
+            executor.execute(() -> run(job, file));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            deleteQuietly(file);
+            throw busy();
+        }
+        return job.toDTO();
+    }
+
+    @Override
+    public IcesiImportJobDTO getImport(String jobId) {
+        return parseJobId(jobId)
+                .map(jobs::get)
+                .map(ImportJob::toDTO)
+                .orElseThrow(
+                        createIcesiException(
+                                "Import job not found",
+                                HttpStatus.NOT_FOUND,
+                                new DetailBuilder(ErrorCode.ERR_404, "Import job", "Id", jobId)
+                        )
+                );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void run(ImportJob job, Path file) {
+        job.start();
+        try (var reader = Files.newBufferedReader(file, UTF_8)) {
+            var chunk = new ArrayList<IcesiDocumentDTO>(chunkSize);
+            var chunkLines = new ArrayList<Long>(chunkSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                job.lineRead();
+                var documentDTO = parse(job, lineNumber, line);
+                if (documentDTO != null) {
+                    chunk.add(documentDTO);
+                    chunkLines.add(lineNumber);
+                }
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk, chunkLines);
+                    chunk.clear();
+                    chunkLines.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk, chunkLines);
+            }
+            job.complete();
+        } catch (IOException | RuntimeException e) {
+            job.fail(e.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private IcesiDocumentDTO parse(ImportJob job, long lineNumber, String line) {
+        try {
+            IcesiDocumentDTO documentDTO = documentReader.readValue(line);
+            var violations = validator.validate(documentDTO);
+            if (violations.isEmpty()) {
+                return documentDTO;
+            }
+            job.lineFailed(lineNumber, violations.stream()
+                    .map(violation -> mapToIcesiErrorDetail(ErrorCode.ERR_400, violation.getPropertyPath().toString(), violation.getMessage()))
+                    .toList());
+        } catch (JsonProcessingException e) {
+            job.lineFailed(lineNumber, List.of(mapToIcesiErrorDetail(ErrorCode.ERR_400, "document", "is not valid JSON")));
+        }
+        return null;
+    }
+
+    private void importChunk(ImportJob job, List<IcesiDocumentDTO> chunk, List<Long> chunkLines) {
+        try {
+            var errors = documentService.importDocuments(chunk);
+            errors.forEach((index, details) -> job.lineFailed(chunkLines.get(index), details));
+            job.imported(chunk.size() - errors.size());
+        } catch (IcesiException e) {
+            chunkLines.forEach(line -> job.lineFailed(line, e.getError().getDetails()));
+        } catch (RuntimeException e) {
+            List<IcesiErrorDetail> details = List.of(mapToIcesiErrorDetail(ErrorCode.ERR_500));
+            chunkLines.forEach(line -> job.lineFailed(line, details));
+        }
+    }
+
+    private Path spool(InputStream ndjson) {
+        Path file = null;
+        try {
+            file = Files.createTempFile(spoolDirectory, "drafts-import-", ".ndjson");
+            try (var output = Files.newOutputStream(file)) {
+                var buffer = new byte[SPOOL_BUFFER_SIZE];
+                long copied = 0;
+                int read;
+                while ((read = ndjson.read(buffer)) != -1) {
+                    copied += read;
+                    if (copied > maxBytes) {
+                        throw tooLarge();
+                    }
+                    output.write(buffer, 0, read);
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            Optional.ofNullable(file).ifPresent(this::deleteQuietly);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            Optional.ofNullable(file).ifPresent(this::deleteQuietly);
+            throw e;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // the temporary directory is cleaned by the OS eventually
+        }
+    }
+
+    private Optional<UUID> parseJobId(String jobId) {
+        try {
+            return Optional.of(UUID.fromString(jobId));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private IcesiException tooLarge() {
+        return createIcesiException(
+                "Import is too large",
+                HttpStatus.PAYLOAD_TOO_LARGE,
+                new DetailBuilder(ErrorCode.ERR_413, "Import", maxBytes)
+        ).get();
+    }
+
+    private IcesiException busy() {
+        return createIcesiException(
+                "Import queue is full",
+                HttpStatus.SERVICE_UNAVAILABLE,
+                new DetailBuilder(ErrorCode.ERR_503, "Import")
+        ).get();
+    }
+
+}
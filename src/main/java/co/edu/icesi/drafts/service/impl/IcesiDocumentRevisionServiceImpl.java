@@ -0,0 +1,81 @@
+package co.edu.icesi.drafts.service.impl;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentRevisionDTO;
+import co.edu.icesi.drafts.error.exception.DetailBuilder;
+import co.edu.icesi.drafts.error.exception.ErrorCode;
+import co.edu.icesi.drafts.error.exception.IcesiException;
+import co.edu.icesi.drafts.model.IcesiDocumentRevision;
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import co.edu.icesi.drafts.repository.IcesiDocumentRevisionRepository;
+import co.edu.icesi.drafts.revision.TextDelta;
+import co.edu.icesi.drafts.service.IcesiDocumentRevisionService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static co.edu.icesi.drafts.error.util.IcesiExceptionBuilder.createIcesiException;
+
+@Service
+@AllArgsConstructor
+class IcesiDocumentRevisionServiceImpl implements IcesiDocumentRevisionService {
+
+    private final IcesiDocumentRepository documentRepository;
+    private final IcesiDocumentRevisionRepository revisionRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<IcesiDocumentRevisionDTO> getRevisions(String documentId) {
+        var id = parseId(documentId)
+                .filter(documentRepository::existsById)
+                .orElseThrow(notFound("Document", "Id", documentId));
+        return revisionRepository.findRevisionDTOs(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IcesiDocumentDTO getRevision(String documentId, long version) {
+        var id = parseId(documentId).orElseThrow(notFound("Document", "Id", documentId));
+        var userId = documentRepository.findUserIdById(id).orElseThrow(notFound("Document", "Id", documentId));
+        var chain = revisionRepository.findSnapshotVersion(id, version)
+                .map(snapshotVersion -> revisionRepository.findChain(id, snapshotVersion, version))
+                .filter(revisions -> revisions.get(revisions.size() - 1).getVersion() == version)
+                .orElseThrow(notFound("Revision", "Version", version));
+        var text = chain.get(0).getText();
+        for (var revision : chain.subList(1, chain.size())) {
+            text = new TextDelta(revision.getPrefixLength(), revision.getSuffixLength(), revision.getText()).apply(text);
+        }
+        var revision = chain.get(chain.size() - 1);
+        return IcesiDocumentDTO.builder()
+                .icesiDocumentId(id)
+                .title(revision.getTitle())
+                .text(text)
+                .status(revision.getStatus())
+                .userId(userId)
+                .version(revision.getVersion())
+                .build();
+    }
+
+    private Supplier<IcesiException> notFound(String entity, String field, Object value) {
+        return createIcesiException(
+                entity + " not found",
+                HttpStatus.NOT_FOUND,
+                new DetailBuilder(ErrorCode.ERR_404, entity, field, value)
+        );
+    }
+
+    private Optional<UUID> parseId(String id) {
+        try {
+            return Optional.of(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+}
@@ -1,70 +1,552 @@
 package co.edu.icesi.drafts.service.impl;
 
-import co.edu.icesi.drafts.controller.IcesiDocumentController;
+import co.edu.icesi.drafts.autosave.IcesiDocumentAutosaveBuffer;
+import co.edu.icesi.drafts.cache.IcesiUserCache;
+import co.edu.icesi.drafts.dto.IcesiDocumentBatchPatchDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentCountsDTO;
 import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentPageDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentPatchResultDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentSummaryDTO;
+import co.edu.icesi.drafts.dto.IcesiReadModelConsistencyDTO;
 import co.edu.icesi.drafts.error.exception.*;
-import co.edu.icesi.drafts.error.util.IcesiExceptionBuilder;
+import co.edu.icesi.drafts.error.util.ValidationResult;
+import co.edu.icesi.drafts.event.IcesiDocumentChange;
+import co.edu.icesi.drafts.event.IcesiDocumentsChangedEvent;
+import co.edu.icesi.drafts.index.IcesiDocumentReadModel;
+import co.edu.icesi.drafts.index.IcesiDocumentSearchIndex;
+import co.edu.icesi.drafts.index.IcesiDocumentStatusCounters;
+import co.edu.icesi.drafts.index.IcesiDocumentTitleIndex;
 import co.edu.icesi.drafts.mapper.IcesiDocumentMapper;
-import co.edu.icesi.drafts.model.IcesiDocument;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.model.IcesiUser;
 import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
-import co.edu.icesi.drafts.repository.IcesiUserRepository;
+import co.edu.icesi.drafts.revision.IcesiDocumentRevisionRecorder;
 import co.edu.icesi.drafts.service.IcesiDocumentService;
-import lombok.AllArgsConstructor;
+import co.edu.icesi.drafts.store.IcesiApprovedDocumentStore;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static co.edu.icesi.drafts.error.util.IcesiExceptionBuilder.createIcesiException;
 
 
-@AllArgsConstructor
+@Service
 class IcesiDocumentServiceImpl implements IcesiDocumentService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
 
-    private final IcesiUserRepository userRepository;
+    private final IcesiUserCache userCache;
     private final IcesiDocumentRepository documentRepository;
     private final IcesiDocumentMapper documentMapper;
-    private IcesiDocumentController documentController;
+    private final IcesiDocumentTitleIndex titleIndex;
+    private final IcesiDocumentSearchIndex searchIndex;
+    private final IcesiDocumentStatusCounters statusCounters;
+    private final IcesiDocumentReadModel readModel;
+    private final IcesiApprovedDocumentStore approvedStore;
+    private final IcesiDocumentAutosaveBuffer autosaveBuffer;
+    private final IcesiDocumentRevisionRecorder revisionRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+    private final DistributionSummary createBatchSize;
+    private final DistributionSummary importBatchSize;
 
-    public IcesiDocumentServiceImpl(IcesiUserRepository userRepository, IcesiDocumentRepository documentRepository, IcesiDocumentMapper documentMapper) {
-        this.userRepository = userRepository;
+    public IcesiDocumentServiceImpl(IcesiUserCache userCache, IcesiDocumentRepository documentRepository, IcesiDocumentMapper documentMapper,
+                                    IcesiDocumentTitleIndex titleIndex, IcesiDocumentSearchIndex searchIndex,
+                                    IcesiDocumentStatusCounters statusCounters, IcesiDocumentReadModel readModel,
+                                    IcesiApprovedDocumentStore approvedStore, IcesiDocumentAutosaveBuffer autosaveBuffer, IcesiDocumentRevisionRecorder revisionRecorder,
+                                    ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
+        this.userCache = userCache;
         this.documentRepository = documentRepository;
         this.documentMapper = documentMapper;
+        this.titleIndex = titleIndex;
+        this.searchIndex = searchIndex;
+        this.statusCounters = statusCounters;
+        this.readModel = readModel;
+        this.approvedStore = approvedStore;
+        this.autosaveBuffer = autosaveBuffer;
+        this.revisionRecorder = revisionRecorder;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.createBatchSize = batchSize("create", meterRegistry);
+        this.importBatchSize = batchSize("import", meterRegistry);
     }
 
     @Override
-    public List<IcesiDocumentDTO> getAllDocuments() {
-        return documentRepository.findAll().stream()
-                .map(documentMapper::fromIcesiDocument)
-                .toList();
+    public IcesiDocumentPageDTO getDocuments(int limit, UUID after, IcesiDocumentStatus status) {
+        var pageable = toPageable(limit);
+        List<IcesiDocumentSummaryDTO> documents;
+        if (readModel.isReady()) {
+            documents = readModel.findPage(after, pageable.getPageSize(), status, null);
+        } else if (status == null) {
+            documents = after == null
+                    ? documentRepository.findDocumentSummaryPage(pageable)
+                    : documentRepository.findDocumentSummaryPageAfter(after, pageable);
+        } else {
+            documents = after == null
+                    ? documentRepository.findDocumentSummaryPageByStatus(status, pageable)
+                    : documentRepository.findDocumentSummaryPageByStatusAfter(status, after, pageable);
+        }
+        return toPage(documents, pageable);
+    }
+
+    @Override
+    public IcesiDocumentPageDTO getUserDocuments(String userId, int limit, UUID after, IcesiDocumentStatus status) {
+        var pageable = toPageable(limit);
+        var user = parseId(userId)
+                .flatMap(userCache::findById)
+                .orElseThrow(
+                        createIcesiException(
+                                "User not found",
+                                HttpStatus.NOT_FOUND,
+                                new DetailBuilder(ErrorCode.ERR_404, "User", "Id", userId)
+                        )
+                );
+        var id = user.getIcesiUserId();
+        List<IcesiDocumentSummaryDTO> documents;
+        if (readModel.isReady()) {
+            documents = readModel.findPage(after, pageable.getPageSize(), status, id);
+        } else if (status == null) {
+            documents = after == null
+                    ? documentRepository.findDocumentSummaryPageByUser(id, pageable)
+                    : documentRepository.findDocumentSummaryPageByUserAfter(id, after, pageable);
+        } else {
+            documents = after == null
+                    ? documentRepository.findDocumentSummaryPageByUserAndStatus(id, status, pageable)
+                    : documentRepository.findDocumentSummaryPageByUserAndStatusAfter(id, status, after, pageable);
+        }
+        return toPage(documents, pageable);
+    }
+
+    private PageRequest toPageable(int limit) {
+        if (limit < 1) {
+            throw createIcesiException(
+                    "Invalid page size",
+                    new DetailBuilder(ErrorCode.ERR_400, "limit", "must be greater than 0")
+            ).get();
+        }
+        return PageRequest.ofSize(Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private IcesiDocumentPageDTO toPage(List<IcesiDocumentSummaryDTO> documents, PageRequest pageable) {
+        var next = documents.size() < pageable.getPageSize() ? null : documents.get(documents.size() - 1).getIcesiDocumentId();
+        return IcesiDocumentPageDTO.builder()
+                .documents(documents)
+                .next(next)
+                .build();
+    }
+
+    // Without the read model, rows come from a single JPA stream with a fetch size, so the transaction only
+    // exists on this path and holds its connection for as long as the response is being written.
+    @Override
+    public void forEachDocument(IcesiDocumentStatus status, Consumer<IcesiDocumentSummaryDTO> consumer) {
+        if (readModel.isReady()) {
+            readModel.forEach(status, consumer);
+            return;
+        }
+        readOnlyTransaction.executeWithoutResult(transaction -> {
+            try (var documents = status == null
+                    ? documentRepository.streamAllDocumentSummaries()
+                    : documentRepository.streamDocumentSummariesByStatus(status)) {
+                documents.forEach(consumer);
+            }
+        });
+    }
+
+    @Override
+    public IcesiReadModelConsistencyDTO checkReadModelConsistency() {
+        return readModel.checkConsistency();
+    }
+
+    @Override
+    public IcesiDocumentCountsDTO getDocumentCounts(UUID userId) {
+        return userId == null ? statusCounters.getCounts() : statusCounters.getCounts(userId);
     }
 
+    @Override
+    public IcesiDocumentDTO getDocument(String documentId) {
+        return parseId(documentId)
+                .flatMap(id -> approvedStore.find(id).or(() -> documentRepository.findDocumentDTOById(id)))
+                .map(this::withPendingText)
+                .orElseThrow(
+                        createIcesiException(
+                                "Document not found",
+                                HttpStatus.NOT_FOUND,
+                                new DetailBuilder(ErrorCode.ERR_404, "Document", "Id", documentId)
+                        )
+                );
+    }
+
+
+    @Override
+    public List<IcesiDocumentSummaryDTO> searchDocuments(String query, IcesiDocumentStatus status, UUID userId, int limit) {
+        return searchIndex.search(query, status, userId, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    @Override
+    public Long getDocumentVersion(String documentId) {
+        return parseId(documentId)
+                .flatMap(id -> approvedStore.findVersion(id).or(() -> documentRepository.findVersionById(id)))
+                .orElseThrow(
+                        createIcesiException(
+                                "Document not found",
+                                HttpStatus.NOT_FOUND,
+                                new DetailBuilder(ErrorCode.ERR_404, "Document", "Id", documentId)
+                        )
+                );
+    }
 
     @Override
+    @Transactional
     public List<IcesiDocumentDTO> createDocuments(List<IcesiDocumentDTO> documentsDTO) {
-        return null;
+        createBatchSize.record(documentsDTO.size());
+        var users = findUsers(documentsDTO);
+        var reservedTitles = new HashMap<Integer, String>();
+        releaseTitlesOnCompletion(reservedTitles.values(), List.of());
+        var errors = validateNewDocuments(documentsDTO, users, reservedTitles);
+        var result = new ValidationResult();
+        errors.values().forEach(result::addAll);
+        result.throwIfInvalid("Documents couldn't be created");
+        return insertDocuments(documentsDTO, users);
     }
 
     @Override
+    @Transactional
+    public Map<Integer, List<IcesiErrorDetail>> importDocuments(List<IcesiDocumentDTO> documentsDTO) {
+        importBatchSize.record(documentsDTO.size());
+        var users = findUsers(documentsDTO);
+        var reservedTitles = new HashMap<Integer, String>();
+        releaseTitlesOnCompletion(reservedTitles.values(), List.of());
+        var errors = validateNewDocuments(documentsDTO, users, reservedTitles);
+        errors.keySet().stream()
+                .map(reservedTitles::remove)
+                .filter(Objects::nonNull)
+                .forEach(titleIndex::release);
+        insertDocuments(IntStream.range(0, documentsDTO.size())
+                .filter(index -> !errors.containsKey(index))
+                .mapToObj(documentsDTO::get)
+                .toList(), users);
+        var details = new HashMap<Integer, List<IcesiErrorDetail>>(errors.size() * 2);
+        errors.forEach((index, result) -> details.put(index, result.getDetails()));
+        return details;
+    }
+
+    private Map<Integer, ValidationResult> validateNewDocuments(List<IcesiDocumentDTO> documentsDTO, Map<UUID, IcesiUser> users,
+                                                                   Map<Integer, String> reservedTitles) {
+        var existingTitles = titleIndex.isWarm() ? Set.<String>of() : new HashSet<>(documentRepository.findExistingTitles(
+                documentsDTO.stream().map(IcesiDocumentDTO::getTitle).collect(Collectors.toSet())
+        ));
+        var errors = new HashMap<Integer, ValidationResult>();
+        for (int index = 0; index < documentsDTO.size(); index++) {
+            var documentDTO = documentsDTO.get(index);
+            var result = new ValidationResult();
+            if (documentDTO.getUserId() == null) {
+                result.add(ErrorCode.ERR_REQUIRED_FIELD, "userId");
+            } else if (!users.containsKey(documentDTO.getUserId())) {
+                result.add(ErrorCode.ERR_404, "User", "Id", documentDTO.getUserId());
+            }
+            if (existingTitles.contains(documentDTO.getTitle()) || !titleIndex.reserve(documentDTO.getTitle())) {
+                result.add(ErrorCode.ERR_DUPLICATED, "Document", "Title", documentDTO.getTitle());
+            } else {
+                reservedTitles.put(index, documentDTO.getTitle());
+            }
+            if (!result.isValid()) {
+                errors.put(index, result);
+            }
+        }
+        return errors;
+    }
+
+    private List<IcesiDocumentDTO> insertDocuments(List<IcesiDocumentDTO> documentsDTO, Map<UUID, IcesiUser> users) {
+        var documents = documentsDTO.stream()
+                .map(documentDTO -> {
+                    var icesiDocument = documentMapper.fromIcesiDocumentDTO(documentDTO);
+                    icesiDocument.setIcesiUser(users.get(documentDTO.getUserId()));
+                    return icesiDocument;
+                })
+                .toList();
+        documentRepository.saveAll(documents);
+        var created = documents.stream()
+                .map(documentMapper::fromIcesiDocument)
+                .toList();
+        eventPublisher.publishEvent(new IcesiDocumentsChangedEvent(created.stream().map(IcesiDocumentChange::created).toList()));
+        return created;
+    }
+
+    private Map<UUID, IcesiUser> findUsers(List<IcesiDocumentDTO> documentsDTO) {
+        return userCache.findAllById(documentsDTO.stream()
+                .map(IcesiDocumentDTO::getUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+    }
+
+    @Override
+    @Transactional
     public IcesiDocumentDTO updateDocument(String documentId, IcesiDocumentDTO icesiDocumentDTO) {
-        return null;
+        var document = parseId(documentId)
+                .map(this::flushAutosave)
+                .flatMap(documentRepository::findById)
+                .orElseThrow(
+                        createIcesiException(
+                                "Document not found",
+                                HttpStatus.NOT_FOUND,
+                                new DetailBuilder(ErrorCode.ERR_404, "Document", "Id", documentId)
+                        )
+                );
+        if (icesiDocumentDTO.getVersion() != null && !icesiDocumentDTO.getVersion().equals(document.getVersion())) {
+            throw createIcesiException(
+                    "Document has been modified",
+                    HttpStatus.PRECONDITION_FAILED,
+                    new DetailBuilder(ErrorCode.ERR_412, "Document", "Id", documentId)
+            ).get();
+        }
+        var titleChanged = !Objects.equals(document.getTitle(), icesiDocumentDTO.getTitle());
+        var textChanged = !Objects.equals(document.getText(), icesiDocumentDTO.getText());
+        var editable = document.getStatus().isEditable();
+        var titleReserved = titleChanged && editable && reserveTitle(icesiDocumentDTO.getTitle());
+        if (titleReserved) {
+            releaseTitlesOnCompletion(List.of(icesiDocumentDTO.getTitle()), List.of(document.getTitle()));
+        }
+        var result = new ValidationResult();
+        if (!document.getStatus().canTransitionTo(icesiDocumentDTO.getStatus())) {
+            result.add(ErrorCode.ERR_INVALID_TRANSITION, document.getStatus(), icesiDocumentDTO.getStatus());
+        }
+        if (icesiDocumentDTO.getUserId() != null && !icesiDocumentDTO.getUserId().equals(document.getIcesiUser().getIcesiUserId())) {
+            result.add(ErrorCode.ERR_NOT_MODIFIABLE, "userId");
+        }
+        if (titleChanged && !editable) {
+            result.add(ErrorCode.ERR_NOT_EDITABLE, "title", document.getStatus());
+        }
+        if (textChanged && !editable) {
+            result.add(ErrorCode.ERR_NOT_EDITABLE, "text", document.getStatus());
+        }
+        if (titleChanged && editable && !titleReserved) {
+            result.add(ErrorCode.ERR_DUPLICATED, "Document", "Title", icesiDocumentDTO.getTitle());
+        }
+        result.throwIfInvalid("Document couldn't be updated");
+
+        var before = documentMapper.fromIcesiDocument(document);
+        document.setTitle(icesiDocumentDTO.getTitle());
+        document.setText(icesiDocumentDTO.getText());
+        document.setStatus(icesiDocumentDTO.getStatus());
+        var updated = documentMapper.fromIcesiDocument(documentRepository.saveAndFlush(document));
+        revisionRecorder.record(before, updated);
+        eventPublisher.publishEvent(new IcesiDocumentsChangedEvent(List.of(new IcesiDocumentChange(before, updated))));
+        return updated;
     }
 
     @Override
+    public void autosaveDocument(String documentId, String text) {
+        var id = parseId(documentId)
+                .orElseThrow(
+                        createIcesiException(
+                                "Document not found",
+                                HttpStatus.NOT_FOUND,
+                                new DetailBuilder(ErrorCode.ERR_404, "Document", "Id", documentId)
+                        )
+                );
+        if (!autosaveBuffer.isPending(id)) {
+            var status = documentRepository.findStatusById(id)
+                    .orElseThrow(
+                            createIcesiException(
+                                    "Document not found",
+                                    HttpStatus.NOT_FOUND,
+                                    new DetailBuilder(ErrorCode.ERR_404, "Document", "Id", documentId)
+                            )
+                    );
+            if (!status.isEditable()) {
+                throw createIcesiException(
+                        "Document couldn't be autosaved",
+                        new DetailBuilder(ErrorCode.ERR_NOT_EDITABLE, "text", status)
+                ).get();
+            }
+        }
+        autosaveBuffer.autosave(id, text);
+    }
+
+    private UUID flushAutosave(UUID documentId) {
+        autosaveBuffer.flush(List.of(documentId));
+        return documentId;
+    }
+
+    private IcesiDocumentDTO withPendingText(IcesiDocumentDTO document) {
+        return autosaveBuffer.findPendingText(document.getIcesiDocumentId())
+                .map(text -> document.toBuilder().text(text).build())
+                .orElse(document);
+    }
+
+    private static DistributionSummary batchSize(String operation, MeterRegistry meterRegistry) {
+        return DistributionSummary.builder("drafts.documents.batch.size")
+                .description("Documents per bulk call")
+                .baseUnit("documents")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    public List<IcesiDocumentPatchResultDTO> patchDocuments(IcesiDocumentBatchPatchDTO patch) {
+        var documentIds = new LinkedHashSet<>(patch.getIds());
+        autosaveBuffer.flush(documentIds);
+        var documents = documentRepository.findDocumentDTOsByIds(documentIds).stream()
+                .collect(Collectors.toMap(IcesiDocumentDTO::getIcesiDocumentId, Function.identity()));
+        var results = new HashMap<UUID, IcesiDocumentPatchResultDTO>();
+        var groups = new EnumMap<IcesiDocumentStatus, List<UUID>>(IcesiDocumentStatus.class);
+        for (var documentId : documentIds) {
+            var document = documents.get(documentId);
+            var result = new ValidationResult();
+            if (document == null) {
+                result.add(ErrorCode.ERR_404, "Document", "Id", documentId);
+            } else {
+                if (!document.getStatus().canTransitionTo(patch.getStatus())) {
+                    result.add(ErrorCode.ERR_INVALID_TRANSITION, document.getStatus(), patch.getStatus());
+                }
+                if (patch.getText() != null && !patch.getText().equals(document.getText()) && !document.getStatus().isEditable()) {
+                    result.add(ErrorCode.ERR_NOT_EDITABLE, "text", document.getStatus());
+                }
+            }
+            if (result.isValid() && isUnchanged(document, patch)) {
+                results.put(documentId, patchRejected(documentId, document, result));
+            } else if (result.isValid()) {
+                groups.computeIfAbsent(document.getStatus(), status -> new ArrayList<>()).add(documentId);
+            } else {
+                results.put(documentId, patchRejected(documentId, document, result));
+            }
+        }
+
+        var changes = new ArrayList<IcesiDocumentChange>();
+        groups.forEach((from, ids) -> {
+            var updated = patch.getText() == null
+                    ? documentRepository.updateStatus(ids, from, patch.getStatus())
+                    : documentRepository.updateStatusAndText(ids, from, patch.getStatus(), patch.getText());
+            var applied = updated == ids.size() ? Set.copyOf(ids) : findPatched(ids, documents, patch.getStatus());
+            for (var documentId : ids) {
+                var before = documents.get(documentId);
+                if (!applied.contains(documentId)) {
+                    results.put(documentId, patchRejected(documentId, before,
+                            new ValidationResult().add(ErrorCode.ERR_412, "Document", "Id", documentId)));
+                    continue;
+                }
+                var after = IcesiDocumentDTO.builder()
+                        .icesiDocumentId(documentId)
+                        .title(before.getTitle())
+                        .text(patch.getText() == null ? before.getText() : patch.getText())
+                        .status(patch.getStatus())
+                        .userId(before.getUserId())
+                        .version(before.getVersion() + 1)
+                        .build();
+                changes.add(new IcesiDocumentChange(before, after));
+                results.put(documentId, IcesiDocumentPatchResultDTO.builder()
+                        .icesiDocumentId(documentId)
+                        .updated(true)
+                        .status(after.getStatus())
+                        .version(after.getVersion())
+                        .build());
+            }
+        });
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new IcesiDocumentsChangedEvent(changes));
+        }
+        return documentIds.stream().map(results::get).toList();
+    }
+
+    private boolean isUnchanged(IcesiDocumentDTO document, IcesiDocumentBatchPatchDTO patch) {
+        return document.getStatus() == patch.getStatus() && (patch.getText() == null || patch.getText().equals(document.getText()));
+    }
+
+    private Set<UUID> findPatched(List<UUID> documentIds, Map<UUID, IcesiDocumentDTO> before, IcesiDocumentStatus status) {
+        return documentRepository.findDocumentDTOsByIds(documentIds).stream()
+                .filter(document -> document.getStatus() == status)
+                .filter(document -> document.getVersion() == before.get(document.getIcesiDocumentId()).getVersion() + 1)
+                .map(IcesiDocumentDTO::getIcesiDocumentId)
+                .collect(Collectors.toSet());
+    }
+
+    private IcesiDocumentPatchResultDTO patchRejected(UUID documentId, IcesiDocumentDTO document, ValidationResult result) {
+        return IcesiDocumentPatchResultDTO.builder()
+                .icesiDocumentId(documentId)
+                .updated(false)
+                .status(document == null ? null : document.getStatus())
+                .version(document == null ? null : document.getVersion())
+                .errors(result.isValid() ? null : result.getDetails())
+                .build();
+    }
+
+    private Optional<UUID> parseId(String id) {
+        try {
+            return Optional.of(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean reserveTitle(String title) {
+        if (!titleIndex.reserve(title)) {
+            return false;
+        }
+        return titleIndex.isWarm() || documentRepository.findByTitle(title).isEmpty();
+    }
+
+    private void releaseTitlesOnCompletion(Collection<String> reservedTitles, Collection<String> replacedTitles) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                var released = status == STATUS_COMMITTED ? replacedTitles : reservedTitles;
+                released.forEach(titleIndex::release);
+            }
+        });
+    }
+
+    @Override
+    @Transactional
     public IcesiDocumentDTO createDocument(IcesiDocumentDTO icesiDocumentDTO) {
-        var user = userRepository.findById(icesiDocumentDTO.getUserId())
+        var userId = Optional.ofNullable(icesiDocumentDTO.getUserId())
+                .orElseThrow(
+                        createIcesiException(
+                                "User id is required",
+                                new DetailBuilder(ErrorCode.ERR_REQUIRED_FIELD, "userId")
+                        )
+                );
+        if (!reserveTitle(icesiDocumentDTO.getTitle())) {
+            throw createIcesiException(
+                    "Title already exists",
+                    new DetailBuilder(ErrorCode.ERR_DUPLICATED, "Document", "Title", icesiDocumentDTO.getTitle())
+            ).get();
+        }
+        releaseTitlesOnCompletion(List.of(icesiDocumentDTO.getTitle()), List.of());
+        var user = userCache.findById(userId)
                 .orElseThrow(
                         createIcesiException(
                                 "User not found",
                                 HttpStatus.NOT_FOUND,
-                                new DetailBuilder(ErrorCode.ERR_404, "User", "Id", icesiDocumentDTO.getUserId())
+                                new DetailBuilder(ErrorCode.ERR_404, "User", "Id", userId)
                         )
                 );
         var icesiDocument = documentMapper.fromIcesiDocumentDTO(icesiDocumentDTO);
         icesiDocument.setIcesiUser(user);
-        return documentMapper.fromIcesiDocument(documentRepository.save(icesiDocument));
+        var created = documentMapper.fromIcesiDocument(documentRepository.save(icesiDocument));
+        Optional.ofNullable(created)
+                .map(IcesiDocumentChange::created)
+                .ifPresent(change -> eventPublisher.publishEvent(new IcesiDocumentsChangedEvent(List.of(change))));
+        return created;
     }
 }
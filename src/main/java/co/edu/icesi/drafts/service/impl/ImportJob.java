@@ -0,0 +1,105 @@
+package co.edu.icesi.drafts.service.impl;
+
+import co.edu.icesi.drafts.dto.IcesiImportJobDTO;
+import co.edu.icesi.drafts.dto.IcesiImportJobStatus;
+import co.edu.icesi.drafts.dto.IcesiImportLineErrorDTO;
+import co.edu.icesi.drafts.error.exception.IcesiErrorDetail;
+import co.edu.icesi.drafts.model.TimeOrderedUUIDGenerator;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+class ImportJob {
+
+    private final UUID jobId = TimeOrderedUUIDGenerator.next();
+    private final Instant submittedAt = Instant.now();
+    private final int maxLineErrors;
+    private final AtomicLong linesRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<IcesiImportLineErrorDTO> errors = new ArrayList<>();
+    private volatile IcesiImportJobStatus status = IcesiImportJobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String failure;
+
+    ImportJob(int maxLineErrors) {
+        this.maxLineErrors = maxLineErrors;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = IcesiImportJobStatus.RUNNING;
+    }
+
+    void lineRead() {
+        linesRead.incrementAndGet();
+    }
+
+    void imported(long count) {
+        imported.addAndGet(count);
+    }
+
+    void lineFailed(long line, List<IcesiErrorDetail> details) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxLineErrors) {
+                errors.add(IcesiImportLineErrorDTO.builder().line(line).details(details).build());
+            }
+        }
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = IcesiImportJobStatus.COMPLETED;
+    }
+
+    void fail(String message) {
+        failure = message;
+        finishedAt = Instant.now();
+        status = IcesiImportJobStatus.FAILED;
+    }
+
+    boolean isFinishedBefore(Instant instant) {
+        var finished = finishedAt;
+        return finished != null && finished.isBefore(instant);
+    }
+
+    IcesiImportJobDTO toDTO() {
+        List<IcesiImportLineErrorDTO> lineErrors;
+        synchronized (errors) {
+            lineErrors = List.copyOf(errors);
+        }
+        return IcesiImportJobDTO.builder()
+                .jobId(jobId)
+                .status(status)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .linesRead(linesRead.get())
+                .imported(imported.get())
+                .failed(failed.get())
+                .documentsPerSecond(documentsPerSecond())
+                .failure(failure)
+                .errors(lineErrors)
+                .errorsTruncated(failed.get() > lineErrors.size())
+                .build();
+    }
+
+    private double documentsPerSecond() {
+        var started = startedAt;
+        if (started == null) {
+            return 0;
+        }
+        var end = finishedAt == null ? Instant.now() : finishedAt;
+        var millis = Math.max(1, Duration.between(started, end).toMillis());
+        return imported.get() * 1000d / millis;
+    }
+
+}
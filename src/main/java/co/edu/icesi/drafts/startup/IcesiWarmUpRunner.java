@@ -0,0 +1,199 @@
+package co.edu.icesi.drafts.startup;
+
+import co.edu.icesi.drafts.cache.IcesiUserCache;
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.index.IcesiDocumentReadModel;
+import co.edu.icesi.drafts.index.IcesiDocumentSearchIndex;
+import co.edu.icesi.drafts.index.IcesiDocumentStatusCounters;
+import co.edu.icesi.drafts.index.IcesiDocumentTitleIndex;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.model.IcesiUser;
+import co.edu.icesi.drafts.model.TimeOrderedUUIDGenerator;
+import co.edu.icesi.drafts.repository.IcesiUserRepository;
+import co.edu.icesi.drafts.service.IcesiDocumentService;
+import co.edu.icesi.drafts.store.IcesiApprovedDocumentStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class IcesiWarmUpRunner implements ApplicationRunner {
+
+    private static final int WARM_UP_BATCH_SIZE = 10;
+
+    private final IcesiDocumentTitleIndex titleIndex;
+    private final IcesiDocumentSearchIndex searchIndex;
+    private final IcesiDocumentStatusCounters statusCounters;
+    private final IcesiDocumentReadModel readModel;
+    private final IcesiApprovedDocumentStore approvedStore;
+    private final IcesiUserRepository userRepository;
+    private final IcesiUserCache userCache;
+    private final IcesiDocumentService documentService;
+    private final ObjectMapper objectMapper;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int iterations;
+    private final int users;
+    private final int connections;
+    private final Map<String, Long> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    public IcesiWarmUpRunner(IcesiDocumentTitleIndex titleIndex, IcesiDocumentSearchIndex searchIndex,
+                             IcesiDocumentStatusCounters statusCounters, IcesiDocumentReadModel readModel,
+                             IcesiApprovedDocumentStore approvedStore,
+                             IcesiUserRepository userRepository, IcesiUserCache userCache, IcesiDocumentService documentService,
+                             ObjectMapper objectMapper, DataSource dataSource, TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${drafts.warmup.enabled:true}") boolean enabled,
+                             @Value("${drafts.warmup.iterations:200}") int iterations,
+                             @Value("${drafts.warmup.users:1000}") int users,
+                             @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connections) {
+        this.titleIndex = titleIndex;
+        this.searchIndex = searchIndex;
+        this.statusCounters = statusCounters;
+        this.readModel = readModel;
+        this.approvedStore = approvedStore;
+        this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.documentService = documentService;
+        this.objectMapper = objectMapper;
+        this.dataSource = dataSource;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.users = users;
+        this.connections = connections;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        phase("title-index", titleIndex::warm);
+        phase("search-index", searchIndex::rebuild);
+        phase("status-counters", statusCounters::rebuild);
+        phase("read-model", readModel::rebuild);
+        phase("approved-store", approvedStore::open);
+        if (!enabled) {
+            return;
+        }
+        phase("connection-pool", this::fillConnectionPool);
+        var cachedUsers = new ArrayList<IcesiUser>();
+        phase("user-cache", () -> cachedUsers.addAll(fillUserCache()));
+        if (!cachedUsers.isEmpty()) {
+            phase("code-paths", () -> exercise(cachedUsers.get(0)));
+        }
+        log.info("Warm-up finished: {}", phases);
+    }
+
+    public Map<String, Long> getPhaseMillis() {
+        return Map.copyOf(phases);
+    }
+
+    private void phase(String name, ThrowingRunnable runnable) throws SQLException {
+        var started = System.nanoTime();
+        runnable.run();
+        var millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        phases.put(name, millis);
+        TimeGauge.builder("drafts.startup.phase", () -> millis, TimeUnit.MILLISECONDS)
+                .description("Time spent in each startup phase")
+                .tag("phase", name)
+                .register(meterRegistry);
+    }
+
+    private void fillConnectionPool() throws SQLException {
+        var borrowed = new ArrayList<Connection>(connections);
+        try {
+            for (int index = 0; index < connections; index++) {
+                var connection = dataSource.getConnection();
+                borrowed.add(connection);
+                connection.isValid(1);
+            }
+        } finally {
+            for (var connection : borrowed) {
+                connection.close();
+            }
+        }
+    }
+
+    private List<IcesiUser> fillUserCache() {
+        var page = userRepository.findAll(PageRequest.ofSize(users)).getContent();
+        userCache.putAll(page);
+        return page;
+    }
+
+    private void exercise(IcesiUser user) {
+        var run = TimeOrderedUUIDGenerator.next();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                exercise(user, run);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Warm-up of the document code paths failed, continuing startup", e);
+        }
+    }
+
+    private void exercise(IcesiUser user, UUID run) {
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            var created = documentService.createDocument(warmUpDocument(user, run + "-single-" + iteration));
+            var documentId = created.getIcesiDocumentId().toString();
+            var read = documentService.getDocument(documentId);
+            documentService.getDocumentVersion(documentId);
+            read.setText(read.getText() + " updated");
+            read.setVersion(null);
+            documentService.updateDocument(documentId, read);
+            documentService.createDocuments(IntStream.range(0, WARM_UP_BATCH_SIZE)
+                    .mapToObj(index -> warmUpDocument(user, documentId + "-batch-" + index))
+                    .toList());
+            serialize(read);
+        }
+    }
+
+    private void serialize(IcesiDocumentDTO document) {
+        try {
+            objectMapper.writeValueAsBytes(document);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private IcesiDocumentDTO warmUpDocument(IcesiUser user, String suffix) {
+        return IcesiDocumentDTO.builder()
+                .title("warm-up-" + suffix)
+                .text("Warm-up document, rolled back before the application reports readiness")
+                .status(IcesiDocumentStatus.DRAFT)
+                .userId(user.getIcesiUserId())
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws SQLException;
+    }
+
+}
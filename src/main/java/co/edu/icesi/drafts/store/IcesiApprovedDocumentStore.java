@@ -0,0 +1,272 @@
+package co.edu.icesi.drafts.store;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.event.IcesiDocumentChange;
+import co.edu.icesi.drafts.event.IcesiDocumentsChangedEvent;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Component
+public class IcesiApprovedDocumentStore {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final int RECORD_HEADER = Integer.BYTES * 2;
+    private static final int NULL_TEXT = -1;
+    private static final String SEGMENT_PREFIX = "approved-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final IcesiDocumentRepository documentRepository;
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean enabled;
+    private final Map<UUID, Location> locations = new ConcurrentHashMap<>();
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private volatile MappedByteBuffer[] readableSegments = new MappedByteBuffer[0];
+    private volatile boolean open;
+    private int writePosition;
+
+    @Autowired
+    public IcesiApprovedDocumentStore(IcesiDocumentRepository documentRepository,
+                                      @Value("${drafts.approved-store.directory:${java.io.tmpdir}/drafts/approved-documents}") String directory,
+                                      @Value("${drafts.approved-store.segment-size:67108864}") int segmentSize,
+                                      @Value("${drafts.approved-store.enabled:true}") boolean enabled) {
+        this.documentRepository = documentRepository;
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize;
+        this.enabled = enabled;
+    }
+
+    public synchronized void open() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            load();
+            if (!matchesDatabase()) {
+                rebuild();
+            }
+            open = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentsChanged(IcesiDocumentsChangedEvent event) {
+        event.changes().stream()
+                .map(IcesiDocumentChange::after)
+                .filter(document -> document.getStatus() == IcesiDocumentStatus.APPROVED)
+                .filter(document -> !locations.containsKey(document.getIcesiDocumentId()))
+                .forEach(this::append);
+    }
+
+    public Optional<IcesiDocumentDTO> find(UUID documentId) {
+        var location = open ? locations.get(documentId) : null;
+        if (location == null) {
+            return Optional.empty();
+        }
+        return Optional.of(read(readableSegments[location.segment()], location.offset() + RECORD_HEADER));
+    }
+
+    public Optional<Long> findVersion(UUID documentId) {
+        return Optional.ofNullable(open ? locations.get(documentId) : null).map(Location::version);
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        open = false;
+        segments.forEach(MappedByteBuffer::force);
+    }
+
+    private synchronized void append(IcesiDocumentDTO document) {
+        if (!open || locations.containsKey(document.getIcesiDocumentId())) {
+            return;
+        }
+        var record = encode(document);
+        if (record.length + Integer.BYTES > segmentSize) {
+            return;
+        }
+        try {
+            if (segments.isEmpty() || writePosition + record.length + Integer.BYTES > segmentSize) {
+                newSegment();
+            }
+            var segment = segments.size() - 1;
+            var offset = writePosition;
+            segments.get(segment).put(offset, record);
+            writePosition += record.length;
+            locations.put(document.getIcesiDocumentId(), new Location(segment, offset, document.getVersion()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void load() throws IOException {
+        List<Path> files;
+        try (var paths = Files.list(directory)) {
+            files = paths.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (var file : files) {
+            var buffer = map(file);
+            segments.add(buffer);
+            writePosition = scan(segments.size() - 1, buffer);
+        }
+        readableSegments = segments.toArray(MappedByteBuffer[]::new);
+    }
+
+    private int scan(int segment, MappedByteBuffer buffer) {
+        var position = 0;
+        while (position + RECORD_HEADER <= buffer.capacity()) {
+            var length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER + length > buffer.capacity()) {
+                break;
+            }
+            var checksum = new CRC32();
+            checksum.update(buffer.slice(position + RECORD_HEADER, length));
+            if ((int) checksum.getValue() != buffer.getInt(position + Integer.BYTES)) {
+                break;
+            }
+            var body = position + RECORD_HEADER;
+            var documentId = new UUID(buffer.getLong(body), buffer.getLong(body + Long.BYTES));
+            var version = buffer.getLong(body + Long.BYTES * 4);
+            locations.put(documentId, new Location(segment, position, version));
+            position += RECORD_HEADER + length;
+        }
+        buffer.putInt(position, 0);
+        return position;
+    }
+
+    // Every approved id and version on disk must match the database; a restore, a manual fix or a crash
+    // between commit and append would otherwise leave stale documents that still count as complete.
+    private boolean matchesDatabase() {
+        if (locations.size() != documentRepository.countByStatus(IcesiDocumentStatus.APPROVED)) {
+            return false;
+        }
+        var pageable = PageRequest.ofSize(REBUILD_PAGE_SIZE);
+        var page = documentRepository.findDocumentSummaryPageByStatus(IcesiDocumentStatus.APPROVED, pageable);
+        while (!page.isEmpty()) {
+            for (var summary : page) {
+                var location = locations.get(summary.getIcesiDocumentId());
+                if (location == null || location.version() != Objects.requireNonNullElse(summary.getVersion(), 0L)) {
+                    return false;
+                }
+            }
+            page = page.size() < REBUILD_PAGE_SIZE
+                    ? List.of()
+                    : documentRepository.findDocumentSummaryPageByStatusAfter(IcesiDocumentStatus.APPROVED,
+                    page.get(page.size() - 1).getIcesiDocumentId(), pageable);
+        }
+        return true;
+    }
+
+    private void rebuild() throws IOException {
+        locations.clear();
+        segments.clear();
+        readableSegments = new MappedByteBuffer[0];
+        writePosition = 0;
+        try (var paths = Files.list(directory)) {
+            for (var path : paths.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX)).toList()) {
+                Files.delete(path);
+            }
+        }
+        open = true;
+        var pageable = PageRequest.ofSize(REBUILD_PAGE_SIZE);
+        var page = documentRepository.findDocumentDTOPageByStatus(IcesiDocumentStatus.APPROVED, pageable);
+        while (!page.isEmpty()) {
+            page.forEach(this::append);
+            page = page.size() < REBUILD_PAGE_SIZE
+                    ? List.of()
+                    : documentRepository.findDocumentDTOPageByStatusAfter(IcesiDocumentStatus.APPROVED,
+                    page.get(page.size() - 1).getIcesiDocumentId(), pageable);
+        }
+    }
+
+    private void newSegment() throws IOException {
+        var file = directory.resolve("%s%06d%s".formatted(SEGMENT_PREFIX, segments.size(), SEGMENT_SUFFIX));
+        segments.add(map(file));
+        readableSegments = segments.toArray(MappedByteBuffer[]::new);
+        writePosition = 0;
+    }
+
+    private MappedByteBuffer map(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, channel.size()));
+        }
+    }
+
+    private static byte[] encode(IcesiDocumentDTO document) {
+        var title = document.getTitle() == null ? new byte[0] : document.getTitle().getBytes(UTF_8);
+        var text = document.getText() == null ? null : document.getText().getBytes(UTF_8);
+        var length = Long.BYTES * 5 + Integer.BYTES * 2 + title.length + (text == null ? 0 : text.length);
+        var buffer = ByteBuffer.allocate(RECORD_HEADER + length);
+        buffer.putInt(length).putInt(0)
+                .putLong(document.getIcesiDocumentId().getMostSignificantBits())
+                .putLong(document.getIcesiDocumentId().getLeastSignificantBits())
+                .putLong(document.getUserId().getMostSignificantBits())
+                .putLong(document.getUserId().getLeastSignificantBits())
+                .putLong(Optional.ofNullable(document.getVersion()).orElse(0L))
+                .putInt(title.length).put(title)
+                .putInt(text == null ? NULL_TEXT : text.length);
+        if (text != null) {
+            buffer.put(text);
+        }
+        var checksum = new CRC32();
+        checksum.update(buffer.array(), RECORD_HEADER, length);
+        buffer.putInt(Integer.BYTES, (int) checksum.getValue());
+        return buffer.array();
+    }
+
+    private static IcesiDocumentDTO read(ByteBuffer segment, int body) {
+        var position = body + Long.BYTES * 5;
+        var titleLength = segment.getInt(position);
+        var title = new byte[titleLength];
+        segment.get(position + Integer.BYTES, title);
+        position += Integer.BYTES + titleLength;
+        var textLength = segment.getInt(position);
+        String text = null;
+        if (textLength != NULL_TEXT) {
+            var bytes = new byte[textLength];
+            segment.get(position + Integer.BYTES, bytes);
+            text = new String(bytes, UTF_8);
+        }
+        return IcesiDocumentDTO.builder()
+                .icesiDocumentId(new UUID(segment.getLong(body), segment.getLong(body + Long.BYTES)))
+                .userId(new UUID(segment.getLong(body + Long.BYTES * 2), segment.getLong(body + Long.BYTES * 3)))
+                .version(segment.getLong(body + Long.BYTES * 4))
+                .title(new String(title, UTF_8))
+                .text(text)
+                .status(IcesiDocumentStatus.APPROVED)
+                .build();
+    }
+
+    private record Location(int segment, int offset, long version) {
+    }
+
+}
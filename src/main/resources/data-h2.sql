@@ -1 +1 @@
-INSERT INTO ICESI_USER (ICESI_USER_ID, FIRST_NAME, LAST_NAME, CODE, EMAIL, PHONE_NUMBER) VALUES ('fd127023-e154-4ff2-a9e2-fbd648735d80', 'John', 'Doe', 'A0023123', 'johndoe@email.com', '+57000000000')
\ No newline at end of file
+INSERT INTO ICESI_USER (ICESI_USER_ID, FIRST_NAME, LAST_NAME, CODE, EMAIL, PHONE_NUMBER) VALUES (X'fd127023e1544ff2a9e2fbd648735d80', 'John', 'Doe', 'A0023123', 'johndoe@email.com', '+57000000000')
\ No newline at end of file
@@ -0,0 +1,34 @@
+-- Moves an existing schema from uuid-char (VARCHAR) keys to binary(16) keys.
+-- Existing ids keep their value, only new rows get time-ordered (v7) ids.
+-- Run once against the database before starting the new version, with ddl-auto set to none/validate.
+
+CREATE TABLE icesi_user_binary (
+    icesi_user_id BINARY(16) NOT NULL PRIMARY KEY,
+    code VARCHAR(255),
+    email VARCHAR(255),
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    phone_number VARCHAR(255)
+);
+
+INSERT INTO icesi_user_binary (icesi_user_id, code, email, first_name, last_name, phone_number)
+SELECT CAST(CAST(icesi_user_id AS UUID) AS BINARY(16)), code, email, first_name, last_name, phone_number
+FROM icesi_user;
+
+CREATE TABLE icesi_document_binary (
+    icesi_document_id BINARY(16) NOT NULL PRIMARY KEY,
+    status INTEGER,
+    text VARCHAR(255),
+    title VARCHAR(255) UNIQUE,
+    icesi_user_documents BINARY(16) NOT NULL REFERENCES icesi_user_binary (icesi_user_id)
+);
+
+INSERT INTO icesi_document_binary (icesi_document_id, status, text, title, icesi_user_documents)
+SELECT CAST(CAST(icesi_document_id AS UUID) AS BINARY(16)), status, text, title, CAST(CAST(icesi_user_documents AS UUID) AS BINARY(16))
+FROM icesi_document;
+
+DROP TABLE icesi_document;
+DROP TABLE icesi_user;
+
+ALTER TABLE icesi_user_binary RENAME TO icesi_user;
+ALTER TABLE icesi_document_binary RENAME TO icesi_document;
@@ -0,0 +1,8 @@
+-- Adds the creation timestamp used by the export date filters.
+-- Rows created before this column existed get the migration time.
+
+ALTER TABLE icesi_document ADD COLUMN created_at TIMESTAMP WITH TIME ZONE;
+
+UPDATE icesi_document SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+
+CREATE INDEX idx_icesi_document_created_at ON icesi_document (created_at);
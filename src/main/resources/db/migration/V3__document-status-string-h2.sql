@@ -0,0 +1,16 @@
+-- Stores the document status by name instead of ordinal and indexes it for status queries.
+-- Run once against the database before starting the new version, with ddl-auto set to none/validate.
+
+ALTER TABLE icesi_document ADD COLUMN status_name VARCHAR(16);
+
+UPDATE icesi_document SET status_name = CASE status
+    WHEN 0 THEN 'DRAFT'
+    WHEN 1 THEN 'REVISION'
+    WHEN 2 THEN 'APPROVED'
+END;
+
+ALTER TABLE icesi_document DROP COLUMN status;
+
+ALTER TABLE icesi_document ALTER COLUMN status_name RENAME TO status;
+
+CREATE INDEX idx_icesi_document_status ON icesi_document (status, icesi_document_id);
@@ -0,0 +1,5 @@
+-- Indexes the document owner so per-user listings page through the index instead of scanning.
+
+CREATE INDEX idx_icesi_document_user ON icesi_document (icesi_user_documents, icesi_document_id);
+
+CREATE INDEX idx_icesi_document_user_status ON icesi_document (icesi_user_documents, status, icesi_document_id);
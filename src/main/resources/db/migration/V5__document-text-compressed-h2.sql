@@ -0,0 +1,11 @@
+-- Moves document text from VARCHAR to the BLOB written by CompressedTextConverter.
+-- Existing text is stored uncompressed behind the RAW (0x00) marker and gets compressed on its next write.
+-- Run once against the database before starting the new version, with ddl-auto set to none/validate.
+
+ALTER TABLE icesi_document ADD COLUMN text_data BLOB;
+
+UPDATE icesi_document SET text_data = X'00' || CAST(text AS VARBINARY) WHERE text IS NOT NULL;
+
+ALTER TABLE icesi_document DROP COLUMN text;
+
+ALTER TABLE icesi_document ALTER COLUMN text_data RENAME TO text;
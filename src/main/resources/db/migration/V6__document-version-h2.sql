@@ -0,0 +1,9 @@
+-- Adds the optimistic lock version used for ETags and If-Match.
+-- Existing rows start at version 0.
+-- Run once against the database before starting the new version, with ddl-auto set to none/validate.
+
+ALTER TABLE icesi_document ADD COLUMN version BIGINT DEFAULT 0;
+
+UPDATE icesi_document SET version = 0 WHERE version IS NULL;
+
+ALTER TABLE icesi_document ALTER COLUMN version SET NOT NULL;
@@ -0,0 +1,19 @@
+-- Creates the revision history written by IcesiDocumentRevisionRecorder.
+-- Each row is either a full snapshot or a delta against the previous revision of the same document.
+-- Run once against the database before starting the new version, with ddl-auto set to none/validate.
+
+CREATE TABLE icesi_document_revision (
+    icesi_document_revision_id BINARY(16) NOT NULL PRIMARY KEY,
+    document_id BINARY(16) NOT NULL,
+    version BIGINT NOT NULL,
+    title VARCHAR(255),
+    status VARCHAR(16),
+    snapshot BOOLEAN NOT NULL,
+    depth INTEGER NOT NULL,
+    prefix_length INTEGER NOT NULL,
+    suffix_length INTEGER NOT NULL,
+    text BLOB,
+    created_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE UNIQUE INDEX idx_icesi_document_revision_version ON icesi_document_revision (document_id, version);
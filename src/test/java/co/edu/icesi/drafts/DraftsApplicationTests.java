@@ -3,7 +3,7 @@ package co.edu.icesi.drafts;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "drafts.approved-store.directory=${java.io.tmpdir}/drafts-test/${random.uuid}")
 class DraftsApplicationTests {
 
 	@Test
@@ -0,0 +1,82 @@
+package co.edu.icesi.drafts.admission;
+
+import co.edu.icesi.drafts.admission.IcesiAdmissionControl.Client;
+import co.edu.icesi.drafts.admission.IcesiAdmissionControl.Operation;
+import co.edu.icesi.drafts.error.exception.IcesiRateLimitException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IcesiAdmissionControlTest {
+
+    @Test
+    public void admit_WhenClientIdIsRotated_ShouldStillBeLimitedByAddress() {
+        var admissionControl = admissionControl(100, 3);
+
+        for (int index = 0; index < 3; index++) {
+            admissionControl.admit(Operation.SINGLE, new Client("10.0.0.1", "client-" + index), UUID.randomUUID(), () -> null);
+        }
+
+        assertThrows(IcesiRateLimitException.class,
+                () -> admissionControl.admit(Operation.SINGLE, new Client("10.0.0.1", "client-3"), UUID.randomUUID(), () -> 0));
+        assertEquals(1, admissionControl.admit(Operation.SINGLE, new Client("10.0.0.2", "client-0"), UUID.randomUUID(), () -> 1));
+    }
+
+    @Test
+    public void admit_WhenOneUserIsOverItsLimit_ShouldRefundTheOthers() {
+        var admissionControl = admissionControl(2, 100);
+        var client = new Client("10.0.0.1", null);
+        var busyUser = UUID.randomUUID();
+        var otherUser = UUID.randomUUID();
+        admissionControl.admit(Operation.SINGLE, client, Map.of(busyUser, 2), () -> null);
+
+        var exception = assertThrows(IcesiRateLimitException.class,
+                () -> admissionControl.admit(Operation.BULK, client, Map.of(otherUser, 2, busyUser, 1), () -> null));
+
+        assertTrue(exception.getRetryAfter().compareTo(Duration.ZERO) > 0);
+        assertNull(admissionControl.admit(Operation.SINGLE, client, Map.of(otherUser, 2), () -> null));
+    }
+
+    @Test
+    public void admit_WhenBulkheadIsFull_ShouldRejectConcurrentWrites() throws Exception {
+        var admissionControl = admissionControl(100, 100);
+        var client = new Client("10.0.0.1", null);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var running = executor.submit(() -> admissionControl.admit(Operation.BULK, client, Map.of(), () -> {
+                started.countDown();
+                awaitQuietly(release);
+                return null;
+            }));
+            started.await();
+
+            assertThrows(IcesiRateLimitException.class, () -> admissionControl.admit(Operation.BULK, client, Map.of(), () -> null));
+            release.countDown();
+            running.get();
+            assertNull(admissionControl.admit(Operation.BULK, client, Map.of(), () -> null));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private IcesiAdmissionControl admissionControl(int burst, int addressBurst) {
+        return new IcesiAdmissionControl(true, 1, burst, 1, addressBurst, 8, 1, 1000, Duration.ofMinutes(10));
+    }
+
+}
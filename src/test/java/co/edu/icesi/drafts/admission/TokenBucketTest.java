@@ -0,0 +1,51 @@
+package co.edu.icesi.drafts.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBucketTest {
+
+    @Test
+    public void tryAcquire_WhenBurstIsUsed_ShouldAskToWait() {
+        var bucket = new TokenBucket(10, 5);
+        var now = System.nanoTime();
+
+        for (int index = 0; index < 5; index++) {
+            assertEquals(0, bucket.tryAcquire(1, now), "Permit " + index + " should be granted");
+        }
+        var waitNanos = bucket.tryAcquire(1, now);
+
+        assertTrue(waitNanos > 0 && waitNanos <= TimeUnit.MILLISECONDS.toNanos(100), "Unexpected wait " + waitNanos);
+        assertEquals(0, bucket.tryAcquire(1, now + waitNanos));
+    }
+
+    @Test
+    public void refund_WhenPermitsAreReturned_ShouldAdmitAgain() {
+        var bucket = new TokenBucket(1, 4);
+        var now = System.nanoTime();
+
+        assertEquals(0, bucket.tryAcquire(4, now));
+        assertTrue(bucket.tryAcquire(1, now) > 0);
+        bucket.refund(2);
+
+        assertEquals(0, bucket.tryAcquire(2, now));
+    }
+
+    @Test
+    public void tryAcquire_WhenCostExceedsCapacity_ShouldChargeTheFullCost() {
+        var bucket = new TokenBucket(10, 5);
+        var now = System.nanoTime();
+
+        assertEquals(0, bucket.tryAcquire(20, now));
+        var waitNanos = bucket.tryAcquire(1, now);
+
+        assertTrue(waitNanos >= TimeUnit.MILLISECONDS.toNanos(1500), "Unexpected wait " + waitNanos);
+        assertTrue(bucket.tryAcquire(20, now + TimeUnit.MILLISECONDS.toNanos(1500)) > 0);
+        assertEquals(0, bucket.tryAcquire(20, now + TimeUnit.SECONDS.toNanos(2)));
+    }
+
+}
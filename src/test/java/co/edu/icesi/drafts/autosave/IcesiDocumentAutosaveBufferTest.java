@@ -0,0 +1,163 @@
+package co.edu.icesi.drafts.autosave;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.event.IcesiDocumentsChangedEvent;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class IcesiDocumentAutosaveBufferTest {
+
+    private final UUID draftId = UUID.fromString("0189f7a2-4c1e-7000-8000-000000000001");
+
+    private final UUID approvedId = UUID.fromString("0189f7a2-4c1e-7000-8000-000000000002");
+
+    private JdbcTemplate jdbcTemplate;
+
+    private IcesiDocumentRepository documentRepository;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    public void init() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        documentRepository = mock(IcesiDocumentRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        when(documentRepository.findDocumentDTOsByIds(any())).thenReturn(List.of(
+                document(draftId, IcesiDocumentStatus.DRAFT),
+                document(approvedId, IcesiDocumentStatus.APPROVED)
+        ));
+        updatedRows(1);
+    }
+
+    @Test
+    public void autosave_WhenSameDocumentIsSavedTwice_ShouldWriteOnlyTheLatestTextOnFlush() {
+        var buffer = buffer(true, 100);
+
+        buffer.autosave(draftId, "first");
+        buffer.autosave(draftId, "second");
+
+        verifyNoInteractions(jdbcTemplate);
+        assertEquals("second", buffer.findPendingText(draftId).orElseThrow());
+
+        buffer.flush();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyCollection(), eq(500), any(ParameterizedPreparedStatementSetter.class));
+        var change = publishedEvent().changes().get(0);
+        assertFalse(buffer.isPending(draftId));
+        assertEquals("before", change.before().getText());
+        assertEquals(3L, change.before().getVersion());
+        assertEquals("second", change.after().getText());
+        assertEquals(4L, change.after().getVersion());
+    }
+
+    @Test
+    public void autosave_WhenMaxPendingIsReached_ShouldFlushEveryPendingDocument() {
+        var buffer = buffer(true, 2);
+
+        buffer.autosave(draftId, "draft text");
+        verifyNoInteractions(jdbcTemplate);
+        buffer.autosave(approvedId, "approved text");
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyCollection(), eq(500), any(ParameterizedPreparedStatementSetter.class));
+        assertFalse(buffer.isPending(draftId));
+        assertFalse(buffer.isPending(approvedId));
+    }
+
+    @Test
+    public void flush_WhenDocumentIsNotEditable_ShouldSkipItAndPublishOnlyEditableChanges() {
+        var buffer = buffer(true, 100);
+        buffer.autosave(draftId, "draft text");
+        buffer.autosave(approvedId, "approved text");
+
+        buffer.flush(List.of(draftId, approvedId));
+
+        var documents = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("status in ('DRAFT', 'REVISION')"), documents.capture(), eq(500), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(1, documents.getValue().size());
+        var changes = publishedEvent().changes();
+        assertEquals(1, changes.size());
+        assertEquals(draftId, changes.get(0).after().getIcesiDocumentId());
+    }
+
+    @Test
+    public void flush_WhenRowChangedAfterItWasRead_ShouldKeepTheTextPendingAndPublishNothing() {
+        var buffer = buffer(true, 100);
+        updatedRows(0);
+        buffer.autosave(draftId, "draft text");
+
+        buffer.flush();
+
+        verify(jdbcTemplate).batchUpdate(contains("version = ?"), anyCollection(), eq(500), any(ParameterizedPreparedStatementSetter.class));
+        verifyNoInteractions(eventPublisher);
+        assertEquals("draft text", buffer.findPendingText(draftId).orElseThrow());
+    }
+
+    @Test
+    public void flush_WhenNothingIsPending_ShouldNotTouchTheDatabase() {
+        var buffer = buffer(true, 100);
+
+        buffer.flush();
+        buffer.flush(List.of(draftId));
+
+        verifyNoInteractions(jdbcTemplate, documentRepository, eventPublisher);
+    }
+
+    @Test
+    public void autosave_WhenBufferIsDisabled_ShouldWriteThrough() {
+        var buffer = buffer(false, 100);
+
+        buffer.autosave(draftId, "draft text");
+
+        assertFalse(buffer.isPending(draftId));
+        assertEquals("draft text", publishedEvent().changes().get(0).after().getText());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void updatedRows(int count) {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    var rows = new int[((Collection<Object>) invocation.getArgument(1)).size()];
+                    Arrays.fill(rows, count);
+                    return new int[][]{rows};
+                });
+    }
+
+    private IcesiDocumentAutosaveBuffer buffer(boolean enabled, int maxPending) {
+        return new IcesiDocumentAutosaveBuffer(jdbcTemplate, mock(PlatformTransactionManager.class), documentRepository,
+                eventPublisher, enabled, maxPending, 500);
+    }
+
+    private IcesiDocumentsChangedEvent publishedEvent() {
+        var event = ArgumentCaptor.forClass(IcesiDocumentsChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        return event.getValue();
+    }
+
+    private IcesiDocumentDTO document(UUID documentId, IcesiDocumentStatus status) {
+        return IcesiDocumentDTO.builder()
+                .icesiDocumentId(documentId)
+                .title("Title " + documentId)
+                .text("before")
+                .status(status)
+                .userId(UUID.fromString("fd127023-e154-4ff2-a9e2-fbd648735d80"))
+                .version(3L)
+                .build();
+    }
+
+}
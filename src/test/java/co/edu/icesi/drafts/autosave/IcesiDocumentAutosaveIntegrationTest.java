@@ -0,0 +1,50 @@
+package co.edu.icesi.drafts.autosave;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import co.edu.icesi.drafts.service.IcesiDocumentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "drafts.autosave.enabled=true",
+        "drafts.autosave.flush-interval=PT0.1S",
+        "drafts.approved-store.directory=${java.io.tmpdir}/drafts-test/${random.uuid}"
+})
+public class IcesiDocumentAutosaveIntegrationTest {
+
+    @Autowired
+    private IcesiDocumentService documentService;
+
+    @Autowired
+    private IcesiDocumentRepository documentRepository;
+
+    @Test
+    public void autosaveDocument_WhenAutosaveIsEnabled_ShouldBeFlushedByTheScheduler() throws InterruptedException {
+        var created = documentService.createDocument(IcesiDocumentDTO.builder()
+                .title("Autosaved " + UUID.randomUUID())
+                .text("initial text")
+                .status(IcesiDocumentStatus.DRAFT)
+                .userId(UUID.fromString("fd127023-e154-4ff2-a9e2-fbd648735d80"))
+                .build());
+        var documentId = created.getIcesiDocumentId();
+
+        documentService.autosaveDocument(documentId.toString(), "autosaved text");
+
+        assertEquals("autosaved text", documentService.getDocument(documentId.toString()).getText());
+        var deadline = System.nanoTime() + 5_000_000_000L;
+        while (documentRepository.findVersionById(documentId).orElseThrow() == created.getVersion() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        var stored = documentRepository.findDocumentDTOById(documentId).orElseThrow();
+        assertEquals("autosaved text", stored.getText());
+        assertEquals(created.getVersion() + 1, stored.getVersion());
+    }
+
+}
@@ -0,0 +1,79 @@
+package co.edu.icesi.drafts.cache;
+
+import co.edu.icesi.drafts.model.IcesiUser;
+import co.edu.icesi.drafts.repository.IcesiUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class IcesiUserCacheTest {
+
+    private IcesiUserRepository userRepository;
+
+    private IcesiUserCache userCache;
+
+    @BeforeEach
+    public void init() {
+        userRepository = mock(IcesiUserRepository.class);
+        userCache = new IcesiUserCache(userRepository, 100, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    public void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void findById_WhenReturnedUserIsModified_ShouldKeepCachedValue() {
+        var user = defaultUser();
+        when(userRepository.findById(user.getIcesiUserId())).thenReturn(Optional.of(user));
+        userCache.findById(user.getIcesiUserId());
+        userCache.findById(user.getIcesiUserId()).orElseThrow().setEmail("changed@email.com");
+
+        var cached = userCache.findById(user.getIcesiUserId()).orElseThrow();
+
+        assertEquals("john.doe@email.com", cached.getEmail());
+        assertEquals(cached, userCache.findByEmail("john.doe@email.com").orElseThrow());
+        verify(userRepository, times(1)).findById(user.getIcesiUserId());
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    public void evict_WhenTransactionIsActive_ShouldEvictAgainAfterCompletion() {
+        var user = defaultUser();
+        when(userRepository.findById(user.getIcesiUserId())).thenReturn(Optional.of(user));
+        userCache.findById(user.getIcesiUserId());
+        TransactionSynchronizationManager.initSynchronization();
+
+        userCache.evict(user);
+        userCache.findById(user.getIcesiUserId());
+        assertEquals(1, userCache.getSize());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals(0, userCache.getSize());
+    }
+
+    private IcesiUser defaultUser() {
+        return IcesiUser.builder()
+                .icesiUserId(UUID.fromString("f218a75c-d2c9-4ebc-a4ab-bb4e3e0b5a5e"))
+                .firstName("John")
+                .lastName("Doe")
+                .code("A00000001")
+                .email("john.doe@email.com")
+                .phoneNumber("+57 300 000 0000")
+                .build();
+    }
+
+}
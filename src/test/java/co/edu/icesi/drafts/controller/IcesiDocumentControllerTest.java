@@ -0,0 +1,80 @@
+package co.edu.icesi.drafts.controller;
+
+import co.edu.icesi.drafts.admission.IcesiAdmissionControl;
+import co.edu.icesi.drafts.config.IcesiStreamingCodecs;
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.error.GlobalExceptionHandler;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.service.IcesiDocumentExportService;
+import co.edu.icesi.drafts.service.IcesiDocumentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class IcesiDocumentControllerTest {
+
+    private final UUID documentId = UUID.fromString("0189f7a2-4c1e-7000-8000-000000000001");
+
+    private IcesiDocumentService documentService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void init() {
+        documentService = mock(IcesiDocumentService.class);
+        var controller = new IcesiDocumentController(documentService, mock(IcesiDocumentExportService.class),
+                mock(IcesiStreamingCodecs.class), mock(IcesiAdmissionControl.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+                .build();
+        when(documentService.getDocument(documentId.toString())).thenReturn(IcesiDocumentDTO.builder()
+                .icesiDocumentId(documentId)
+                .title("Title")
+                .status(IcesiDocumentStatus.DRAFT)
+                .version(3L)
+                .build());
+        when(documentService.getDocumentVersion(documentId.toString())).thenReturn(3L);
+    }
+
+    @Test
+    public void getDocument_WhenIfNoneMatchIsMissing_ShouldNotProbeTheVersion() throws Exception {
+        mockMvc.perform(get("/documents/{documentId}", documentId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+        verify(documentService, never()).getDocumentVersion(any());
+    }
+
+    @Test
+    public void getDocument_WhenIfNoneMatchIsCurrent_ShouldReturnNotModified() throws Exception {
+        mockMvc.perform(get("/documents/{documentId}", documentId).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified());
+
+        verify(documentService, never()).getDocument(any());
+    }
+
+    @Test
+    public void updateDocument_WhenIfMatchIsMalformed_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(put("/documents/{documentId}", documentId)
+                        .header(HttpHeaders.IF_MATCH, "\"not-a-version\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Title\",\"status\":\"DRAFT\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0].errorCode").value("ERR_400"));
+
+        verify(documentService, never()).updateDocument(any(), any());
+    }
+
+}
@@ -0,0 +1,47 @@
+package co.edu.icesi.drafts.error.util;
+
+import co.edu.icesi.drafts.error.exception.ErrorCode;
+import co.edu.icesi.drafts.error.exception.IcesiException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationResultTest {
+
+    @Test
+    public void format_ForEveryErrorCode_ShouldMatchStringFormat() {
+        var id = UUID.randomUUID();
+        for (var errorCode : ErrorCode.values()) {
+            assertEquals(errorCode.getMessage().formatted("Document", "Id", id), errorCode.format("Document", "Id", id));
+        }
+        assertEquals("field userId is required", ErrorCode.ERR_REQUIRED_FIELD.format("userId"));
+    }
+
+    @Test
+    public void throwIfInvalid_WhenResultIsValid_ShouldNotThrow() {
+        var result = new ValidationResult();
+
+        assertTrue(result.isValid());
+        assertDoesNotThrow(() -> result.throwIfInvalid("Nothing to report"));
+        assertTrue(result.getDetails().isEmpty());
+    }
+
+    @Test
+    public void throwIfInvalid_WhenResultHasErrors_ShouldThrowWithAllDetailsAndNoStackTrace() {
+        var result = new ValidationResult()
+                .add(ErrorCode.ERR_REQUIRED_FIELD, "userId")
+                .add(ErrorCode.ERR_DUPLICATED, "Document", "Title", "Some title");
+
+        var exception = assertThrows(IcesiException.class, () -> result.throwIfInvalid("Invalid document"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getError().getStatus());
+        assertEquals(2, exception.getError().getDetails().size());
+        assertEquals("ERR_DUPLICATED", exception.getError().getDetails().get(1).getErrorCode());
+        assertEquals("resource Document with field Title: Some title, already exists", exception.getError().getDetails().get(1).getErrorMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+}
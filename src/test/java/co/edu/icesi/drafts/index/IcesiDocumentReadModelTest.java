@@ -0,0 +1,164 @@
+package co.edu.icesi.drafts.index;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentSummaryDTO;
+import co.edu.icesi.drafts.event.IcesiDocumentChange;
+import co.edu.icesi.drafts.event.IcesiDocumentsChangedEvent;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.model.TimeOrderedUUIDGenerator;
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IcesiDocumentReadModelTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private IcesiDocumentRepository documentRepository;
+
+    private IcesiDocumentReadModel readModel;
+
+    private List<IcesiDocumentSummaryDTO> documents;
+
+    @BeforeEach
+    public void init() {
+        documentRepository = mock(IcesiDocumentRepository.class);
+        documents = IntStream.range(0, 10)
+                .mapToObj(index -> summary(TimeOrderedUUIDGenerator.next(), index % 2 == 0 ? IcesiDocumentStatus.DRAFT : IcesiDocumentStatus.REVISION, 0L))
+                .toList();
+        when(documentRepository.findDocumentSummaryPage(any())).thenReturn(documents);
+        readModel = new IcesiDocumentReadModel(documentRepository, true, 4);
+        readModel.rebuild();
+    }
+
+    @Test
+    public void findPage_WhenPagingFromACursor_ShouldReturnDocumentsInIdOrder() {
+        var firstPage = readModel.findPage(null, 4, null, null);
+        var secondPage = readModel.findPage(firstPage.get(3).getIcesiDocumentId(), 10, null, null);
+
+        assertTrue(readModel.isReady());
+        assertEquals(documents.subList(0, 4), firstPage);
+        assertEquals(documents.subList(4, 10), secondPage);
+        assertEquals(5, readModel.findPage(null, 10, IcesiDocumentStatus.REVISION, userId).size());
+    }
+
+    @Test
+    public void onDocumentsChanged_WhenStatusChanges_ShouldMoveDocumentAndIgnoreOlderVersions() {
+        var moved = documents.get(0);
+
+        readModel.onDocumentsChanged(event(moved, IcesiDocumentStatus.REVISION, 1L));
+        readModel.onDocumentsChanged(event(moved, IcesiDocumentStatus.DRAFT, 0L));
+
+        assertEquals(6, readModel.findPage(null, 10, IcesiDocumentStatus.REVISION, null).size());
+        assertEquals(4, readModel.findPage(null, 10, IcesiDocumentStatus.DRAFT, userId).size());
+        assertEquals(1L, readModel.findPage(null, 1, null, null).get(0).getVersion());
+    }
+
+    @Test
+    public void checkConsistency_WhenDatabaseDiffers_ShouldReportMissingAndStaleDocuments() {
+        var created = summary(TimeOrderedUUIDGenerator.next(), IcesiDocumentStatus.DRAFT, 0L);
+        var updated = summary(documents.get(1).getIcesiDocumentId(), IcesiDocumentStatus.APPROVED, 1L);
+        var database = new ArrayList<>(documents);
+        database.set(1, updated);
+        database.add(created);
+        when(documentRepository.findDocumentSummaryPage(any())).thenReturn(database);
+
+        var report = readModel.checkConsistency();
+
+        assertFalse(report.isConsistent());
+        assertEquals(11, report.getDatabaseCount());
+        assertEquals(10, report.getReadModelCount());
+        assertEquals(List.of(created.getIcesiDocumentId()), report.getMissingIds());
+        assertEquals(List.of(updated.getIcesiDocumentId()), report.getStaleIds());
+        assertEquals(0, report.getExtraCount());
+    }
+
+    @Test
+    public void onDocumentsChanged_WhenChangesSpanManyChunks_ShouldMatchAnOrderedReference() {
+        var random = new Random(7);
+        var users = List.of(userId, UUID.randomUUID(), UUID.randomUUID());
+        var statuses = IcesiDocumentStatus.values();
+        var reference = new TreeMap<UUID, IcesiDocumentSummaryDTO>();
+        when(documentRepository.findDocumentSummaryPage(any())).thenReturn(List.of());
+        var chunkedModel = new IcesiDocumentReadModel(documentRepository, true, 1);
+        chunkedModel.rebuild();
+
+        for (int round = 0; round < 40; round++) {
+            var changes = new ArrayList<IcesiDocumentChange>();
+            var changedIds = new HashSet<UUID>();
+            var keys = new ArrayList<>(reference.keySet());
+            for (int change = 0; change < 60; change++) {
+                var existing = keys.isEmpty() || random.nextInt(3) == 0
+                        ? null
+                        : reference.get(keys.get(random.nextInt(keys.size())));
+                var documentId = existing == null ? TimeOrderedUUIDGenerator.next() : existing.getIcesiDocumentId();
+                if (!changedIds.add(documentId)) {
+                    continue;
+                }
+                var after = IcesiDocumentDTO.builder()
+                        .icesiDocumentId(documentId)
+                        .title("Document " + documentId)
+                        .status(statuses[random.nextInt(statuses.length)])
+                        .userId(users.get(random.nextInt(users.size())))
+                        .version(existing == null ? 0L : existing.getVersion() + 1)
+                        .build();
+                changes.add(IcesiDocumentChange.created(after));
+                reference.put(documentId, summary(after));
+            }
+            chunkedModel.onDocumentsChanged(new IcesiDocumentsChangedEvent(changes));
+
+            assertEquals(List.copyOf(reference.values()), chunkedModel.findPage(null, Integer.MAX_VALUE, null, null));
+            var cursor = reference.keySet().stream().skip(random.nextInt(reference.size())).findFirst().orElseThrow();
+            assertEquals(List.copyOf(reference.tailMap(cursor, false).values()), chunkedModel.findPage(cursor, Integer.MAX_VALUE, null, null));
+            for (var status : statuses) {
+                assertEquals(reference.values().stream().filter(document -> document.getStatus() == status).toList(),
+                        chunkedModel.findPage(null, Integer.MAX_VALUE, status, null));
+            }
+            for (var user : users) {
+                assertEquals(reference.values().stream().filter(document -> document.getUserId().equals(user)).toList(),
+                        chunkedModel.findPage(null, Integer.MAX_VALUE, null, user));
+            }
+        }
+        assertEquals(reference.size(), chunkedModel.size());
+    }
+
+    private IcesiDocumentsChangedEvent event(IcesiDocumentSummaryDTO document, IcesiDocumentStatus status, Long version) {
+        var after = IcesiDocumentDTO.builder()
+                .icesiDocumentId(document.getIcesiDocumentId())
+                .title(document.getTitle())
+                .status(status)
+                .userId(userId)
+                .version(version)
+                .build();
+        return new IcesiDocumentsChangedEvent(List.of(new IcesiDocumentChange(null, after)));
+    }
+
+    private IcesiDocumentSummaryDTO summary(IcesiDocumentDTO document) {
+        return IcesiDocumentSummaryDTO.builder()
+                .icesiDocumentId(document.getIcesiDocumentId())
+                .title(document.getTitle())
+                .status(document.getStatus())
+                .userId(document.getUserId())
+                .version(document.getVersion())
+                .build();
+    }
+
+    private IcesiDocumentSummaryDTO summary(UUID documentId, IcesiDocumentStatus status, Long version) {
+        return IcesiDocumentSummaryDTO.builder()
+                .icesiDocumentId(documentId)
+                .title("Document " + documentId)
+                .status(status)
+                .userId(userId)
+                .version(version)
+                .build();
+    }
+
+}
@@ -0,0 +1,103 @@
+package co.edu.icesi.drafts.index;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentSummaryDTO;
+import co.edu.icesi.drafts.event.IcesiDocumentChange;
+import co.edu.icesi.drafts.event.IcesiDocumentsChangedEvent;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class IcesiDocumentSearchIndexTest {
+
+    private static final UUID USER_ID = UUID.fromString("fd127023-e154-4ff2-a9e2-fbd648735d80");
+
+    private static final UUID OTHER_USER_ID = UUID.fromString("f218a75c-d2c9-4ebc-a4ab-bb4e3e0b5a5e");
+
+    private IcesiDocumentSearchIndex searchIndex;
+
+    @BeforeEach
+    public void init() {
+        searchIndex = new IcesiDocumentSearchIndex(mock(IcesiDocumentRepository.class));
+    }
+
+    @Test
+    public void tokenize_WhenValueHasAccentsCaseAndPunctuation_ShouldReturnLowerCaseTermsWithoutMarks() {
+        assertEquals(List.of("cancion", "arbol", "v2", "final"),
+                IcesiDocumentSearchIndex.tokenize("Canción, ÁRBOL v2-final!"));
+        assertEquals(List.of(), IcesiDocumentSearchIndex.tokenize("  ...  "));
+        assertEquals(List.of(), IcesiDocumentSearchIndex.tokenize(null));
+    }
+
+    @Test
+    public void search_WhenTermIsInTitleAndText_ShouldRankTitleMatchesFirst() {
+        var inText = document(1, "Meeting notes", "budget review", IcesiDocumentStatus.DRAFT, USER_ID);
+        var inTitle = document(2, "Budget plan", "next quarter", IcesiDocumentStatus.DRAFT, USER_ID);
+        var inBoth = document(3, "Budget", "budget budget", IcesiDocumentStatus.DRAFT, USER_ID);
+        List.of(inText, inTitle, inBoth).forEach(searchIndex::index);
+
+        var results = searchIndex.search("budget", null, null, 10);
+
+        assertEquals(List.of(inBoth.getIcesiDocumentId(), inTitle.getIcesiDocumentId(), inText.getIcesiDocumentId()),
+                results.stream().map(IcesiDocumentSummaryDTO::getIcesiDocumentId).toList());
+        assertEquals(2, searchIndex.search("budget", null, null, 2).size());
+    }
+
+    @Test
+    public void search_WhenQueryHasSeveralTermsAndFilters_ShouldReturnOnlyDocumentsMatchingAll() {
+        var matching = document(1, "Budget plan", "quarter", IcesiDocumentStatus.APPROVED, USER_ID);
+        var otherStatus = document(2, "Budget plan", "quarter", IcesiDocumentStatus.DRAFT, USER_ID);
+        var otherUser = document(3, "Budget plan", "quarter", IcesiDocumentStatus.APPROVED, OTHER_USER_ID);
+        var missingTerm = document(4, "Budget plan", "year", IcesiDocumentStatus.APPROVED, USER_ID);
+        List.of(matching, otherStatus, otherUser, missingTerm).forEach(searchIndex::index);
+
+        var results = searchIndex.search("budget QUARTER", IcesiDocumentStatus.APPROVED, USER_ID, 10);
+
+        assertEquals(List.of(matching.getIcesiDocumentId()),
+                results.stream().map(IcesiDocumentSummaryDTO::getIcesiDocumentId).toList());
+        assertTrue(searchIndex.search("budget unknown", null, null, 10).isEmpty());
+    }
+
+    @Test
+    public void index_WhenDocumentChanges_ShouldRemoveTermsItNoLongerContains() {
+        var document = document(1, "Budget plan", "quarter", IcesiDocumentStatus.DRAFT, USER_ID);
+        searchIndex.index(document);
+
+        searchIndex.index(document.toBuilder().text("year").version(4L).build());
+
+        assertTrue(searchIndex.search("quarter", null, null, 10).isEmpty());
+        assertEquals(1, searchIndex.search("year", null, null, 10).size());
+        assertEquals(1, searchIndex.search("budget", null, null, 10).size());
+    }
+
+    @Test
+    public void onDocumentsChanged_WhenAfterImageIsOlderThanIndexed_ShouldKeepTheNewerDocument() {
+        var newer = document(1, "Budget plan", "year", IcesiDocumentStatus.DRAFT, USER_ID).toBuilder().version(5L).build();
+        var older = newer.toBuilder().text("quarter").version(4L).build();
+        searchIndex.onDocumentsChanged(new IcesiDocumentsChangedEvent(List.of(IcesiDocumentChange.created(newer))));
+
+        searchIndex.onDocumentsChanged(new IcesiDocumentsChangedEvent(List.of(IcesiDocumentChange.created(older))));
+
+        assertTrue(searchIndex.search("quarter", null, null, 10).isEmpty());
+        assertEquals(5L, searchIndex.search("year", null, null, 10).get(0).getVersion());
+    }
+
+    private IcesiDocumentDTO document(int index, String title, String text, IcesiDocumentStatus status, UUID userId) {
+        return IcesiDocumentDTO.builder()
+                .icesiDocumentId(UUID.fromString("0189f7a2-4c1e-7000-8000-%012d".formatted(index)))
+                .title(title)
+                .text(text)
+                .status(status)
+                .userId(userId)
+                .version(3L)
+                .build();
+    }
+
+}
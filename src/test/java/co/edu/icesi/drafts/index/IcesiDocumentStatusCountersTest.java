@@ -0,0 +1,106 @@
+package co.edu.icesi.drafts.index;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentCountDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.event.IcesiDocumentChange;
+import co.edu.icesi.drafts.event.IcesiDocumentsChangedEvent;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IcesiDocumentStatusCountersTest {
+
+    private static final UUID USER_ID = UUID.fromString("fd127023-e154-4ff2-a9e2-fbd648735d80");
+
+    private final IcesiDocumentDTO draft = document(IcesiDocumentStatus.DRAFT, 1L);
+
+    private final IcesiDocumentDTO approved = document(IcesiDocumentStatus.APPROVED, 2L);
+
+    private IcesiDocumentRepository documentRepository;
+
+    private IcesiDocumentStatusCounters statusCounters;
+
+    @BeforeEach
+    public void init() {
+        documentRepository = mock(IcesiDocumentRepository.class);
+        statusCounters = new IcesiDocumentStatusCounters(documentRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    public void rebuild_WhenRunTwice_ShouldReplaceTheCountsInsteadOfAddingThem() {
+        when(documentRepository.countByUserAndStatus()).thenReturn(List.of(count(IcesiDocumentStatus.DRAFT, 3)));
+
+        statusCounters.rebuild();
+        statusCounters.rebuild();
+
+        assertEquals(3, statusCounters.getCount(IcesiDocumentStatus.DRAFT));
+        assertEquals(3, statusCounters.getCounts(USER_ID).getTotal());
+    }
+
+    @Test
+    public void rebuild_WhenTransitionCommitsAfterTheCountSnapshot_ShouldReplayIt() throws Exception {
+        when(documentRepository.findDocumentDTOsByIds(any())).thenReturn(List.of(draft));
+
+        rebuildWhileTransitioning(List.of(count(IcesiDocumentStatus.DRAFT, 1)));
+
+        assertEquals(0, statusCounters.getCount(IcesiDocumentStatus.DRAFT));
+        assertEquals(1, statusCounters.getCount(IcesiDocumentStatus.APPROVED));
+    }
+
+    @Test
+    public void rebuild_WhenTransitionIsAlreadyInTheCountSnapshot_ShouldNotCountItTwice() throws Exception {
+        when(documentRepository.findDocumentDTOsByIds(any())).thenReturn(List.of(approved));
+
+        rebuildWhileTransitioning(List.of(count(IcesiDocumentStatus.APPROVED, 1)));
+
+        assertEquals(0, statusCounters.getCount(IcesiDocumentStatus.DRAFT));
+        assertEquals(1, statusCounters.getCount(IcesiDocumentStatus.APPROVED));
+        assertEquals(1, statusCounters.getCounts(USER_ID).getTotal());
+    }
+
+    private void rebuildWhileTransitioning(List<IcesiDocumentCountDTO> counts) throws Exception {
+        var counting = new CountDownLatch(1);
+        var transitioned = new CountDownLatch(1);
+        when(documentRepository.countByUserAndStatus()).thenAnswer(invocation -> {
+            counting.countDown();
+            assertTrue(transitioned.await(5, TimeUnit.SECONDS));
+            return counts;
+        });
+        var rebuild = CompletableFuture.runAsync(statusCounters::rebuild);
+        assertTrue(counting.await(5, TimeUnit.SECONDS));
+
+        statusCounters.onDocumentsChanged(new IcesiDocumentsChangedEvent(List.of(new IcesiDocumentChange(draft, approved))));
+        transitioned.countDown();
+
+        rebuild.get(5, TimeUnit.SECONDS);
+    }
+
+    private IcesiDocumentCountDTO count(IcesiDocumentStatus status, long count) {
+        return new IcesiDocumentCountDTO(USER_ID, status, count);
+    }
+
+    private static IcesiDocumentDTO document(IcesiDocumentStatus status, Long version) {
+        return IcesiDocumentDTO.builder()
+                .icesiDocumentId(UUID.fromString("0189f7a2-4c1e-7000-8000-000000000001"))
+                .title("Counted")
+                .status(status)
+                .userId(USER_ID)
+                .version(version)
+                .build();
+    }
+
+}
@@ -0,0 +1,35 @@
+package co.edu.icesi.drafts.model;
+
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressedTextConverterTest {
+
+    @Test
+    public void compress_WhenTextIsLarge_ShouldDeflateAndRoundTrip() {
+        var text = "All work and no play makes Jack a dull boy. ".repeat(100);
+
+        var data = CompressedTextConverter.compress(text);
+
+        assertTrue(data.length < text.length());
+        assertEquals(text, CompressedTextConverter.decompress(data));
+    }
+
+    @Test
+    public void compress_WhenTextIsSmall_ShouldStoreItRaw() {
+        var data = CompressedTextConverter.compress("héllo");
+
+        assertEquals(0, data[0]);
+        assertEquals("héllo", CompressedTextConverter.decompress(data));
+        assertEquals("", CompressedTextConverter.decompress(CompressedTextConverter.compress("")));
+        assertNull(CompressedTextConverter.decompress(null));
+    }
+
+    @Test
+    public void decompress_WhenValueHasNoMarker_ShouldReadItAsLegacyText() {
+        assertEquals("legacy héllo", CompressedTextConverter.decompress("legacy héllo".getBytes(UTF_8)));
+    }
+
+}
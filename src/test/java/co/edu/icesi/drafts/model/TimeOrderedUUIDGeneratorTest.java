@@ -0,0 +1,52 @@
+package co.edu.icesi.drafts.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeOrderedUUIDGeneratorTest {
+
+    private static final int IDS = 10_000;
+
+    @Test
+    public void next_WhenCalled_ShouldSetVersionSevenAndTheRfcVariant() {
+        var before = System.currentTimeMillis();
+
+        var id = TimeOrderedUUIDGenerator.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(millis(id) >= before);
+    }
+
+    @Test
+    public void next_WhenCalledManyTimesWithinTheSameMillisecond_ShouldReturnStrictlyIncreasingIds() {
+        var ids = IntStream.range(0, IDS).mapToObj(index -> TimeOrderedUUIDGenerator.next()).toArray(UUID[]::new);
+
+        var sameMillisecond = 0;
+        for (int index = 1; index < ids.length; index++) {
+            assertTrue(compareUnsigned(ids[index - 1], ids[index]) < 0, "id " + index + " is not after the previous one");
+            assertEquals(7, ids[index].version());
+            assertEquals(2, ids[index].variant());
+            if (millis(ids[index - 1]) == millis(ids[index])) {
+                sameMillisecond++;
+            }
+        }
+        assertTrue(sameMillisecond > 0);
+    }
+
+    // Ids are stored as binary(16), so the database orders them as unsigned bytes, not by UUID.compareTo.
+    private static int compareUnsigned(UUID first, UUID second) {
+        var mostSignificant = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+        return mostSignificant != 0 ? mostSignificant
+                : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+
+    private static long millis(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+}
@@ -0,0 +1,134 @@
+package co.edu.icesi.drafts.repository;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.model.CompressedTextConverter;
+import co.edu.icesi.drafts.model.IcesiDocument;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.model.IcesiUser;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class IcesiDocumentRepositoryTest {
+
+    @Autowired
+    private IcesiDocumentRepository documentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private IcesiUser firstUser;
+
+    private IcesiUser secondUser;
+
+    @BeforeEach
+    public void init() {
+        firstUser = entityManager.persist(IcesiUser.builder().firstName("John").email("john@email.com").build());
+        secondUser = entityManager.persist(IcesiUser.builder().firstName("Jane").email("jane@email.com").build());
+        entityManager.persist(defaultDocument("Some title", firstUser));
+        entityManager.persist(defaultDocument("Some title1", secondUser));
+        entityManager.persist(defaultDocument("Some title2", secondUser));
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Listing documents runs a single statement and doesn't load users")
+    public void findDocumentDTOPage_ShouldUseOneStatement() {
+        var documents = documentRepository.findDocumentDTOPage(PageRequest.ofSize(10));
+
+        assertEquals(3, documents.size());
+        assertEquals(Set.of(firstUser.getIcesiUserId(), secondUser.getIcesiUserId()),
+                documents.stream().map(IcesiDocumentDTO::getUserId).collect(Collectors.toSet()));
+        assertEquals(1, statistics.getPrepareStatementCount(), "Statement count doesn't match");
+        assertEquals(0, statistics.getEntityLoadCount(), "No entity should be hydrated");
+    }
+
+    @Test
+    @DisplayName("Reading a document runs a single statement and doesn't load its user")
+    public void findDocumentDTOById_ShouldUseOneStatement() {
+        var documentId = documentRepository.findDocumentDTOPage(PageRequest.ofSize(1)).get(0).getIcesiDocumentId();
+        statistics.clear();
+
+        var document = documentRepository.findDocumentDTOById(documentId).orElseThrow();
+
+        assertEquals(documentId, document.getIcesiDocumentId());
+        assertEquals(1, statistics.getPrepareStatementCount(), "Statement count doesn't match");
+        assertEquals(0, statistics.getEntityLoadCount(), "No entity should be hydrated");
+    }
+
+    @Test
+    @DisplayName("Listing a user's documents pages by key without initialising the user's collection")
+    public void findDocumentSummaryPageByUser_ShouldPageWithoutLoadingCollection() {
+        var firstPage = documentRepository.findDocumentSummaryPageByUser(secondUser.getIcesiUserId(), PageRequest.ofSize(1));
+        var secondPage = documentRepository.findDocumentSummaryPageByUserAfter(secondUser.getIcesiUserId(),
+                firstPage.get(0).getIcesiDocumentId(), PageRequest.ofSize(1));
+        var approved = documentRepository.findDocumentSummaryPageByUserAndStatus(secondUser.getIcesiUserId(),
+                IcesiDocumentStatus.APPROVED, PageRequest.ofSize(10));
+
+        assertEquals(1, firstPage.size());
+        assertEquals(1, secondPage.size());
+        assertEquals(Set.of("Some title1", "Some title2"), Set.of(firstPage.get(0).getTitle(), secondPage.get(0).getTitle()));
+        assertEquals(0, approved.size());
+        assertEquals(3, statistics.getPrepareStatementCount(), "Statement count doesn't match");
+        assertEquals(0, statistics.getEntityLoadCount(), "No entity should be hydrated");
+        assertEquals(0, statistics.getCollectionLoadCount(), "No collection should be initialised");
+    }
+
+    @Test
+    @DisplayName("Changing status and text in bulk stores the compressed text and bumps the version")
+    public void updateStatusAndText_ShouldStoreCompressedTextAndBumpVersion() throws SQLException {
+        var documents = documentRepository.findDocumentDTOPage(PageRequest.ofSize(10));
+        var updated = documents.subList(0, 2);
+        var untouched = documents.get(2);
+        var text = "revised text ".repeat(100);
+
+        var count = documentRepository.updateStatusAndText(
+                updated.stream().map(IcesiDocumentDTO::getIcesiDocumentId).toList(),
+                IcesiDocumentStatus.DRAFT, IcesiDocumentStatus.REVISION, text);
+
+        assertEquals(2, count);
+        for (var before : updated) {
+            var after = documentRepository.findDocumentDTOById(before.getIcesiDocumentId()).orElseThrow();
+            assertEquals(text, after.getText());
+            assertEquals(IcesiDocumentStatus.REVISION, after.getStatus());
+            assertEquals(before.getVersion() + 1, after.getVersion());
+            var blob = (Blob) entityManager.getEntityManager()
+                    .createNativeQuery("select text from icesi_document where icesi_document_id = ?1")
+                    .setParameter(1, before.getIcesiDocumentId())
+                    .getSingleResult();
+            var stored = blob.getBytes(1, (int) blob.length());
+            assertTrue(stored.length < text.length(), "Text should be stored compressed");
+            assertEquals(text, CompressedTextConverter.decompress(stored));
+        }
+        assertEquals(untouched, documentRepository.findDocumentDTOById(untouched.getIcesiDocumentId()).orElseThrow());
+    }
+
+    private IcesiDocument defaultDocument(String title, IcesiUser user) {
+        return IcesiDocument.builder()
+                .title(title)
+                .text("loreipsum")
+                .status(IcesiDocumentStatus.DRAFT)
+                .icesiUser(user)
+                .build();
+    }
+}
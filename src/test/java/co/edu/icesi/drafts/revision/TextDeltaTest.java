@@ -0,0 +1,45 @@
+package co.edu.icesi.drafts.revision;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class TextDeltaTest {
+
+    @Test
+    public void diff_WhenOnlyTheMiddleChanges_ShouldKeepOnlyTheChangedMiddle() {
+        var delta = TextDelta.diff("the quick brown fox", "the slow brown fox");
+
+        assertEquals(4, delta.prefixLength());
+        assertEquals(10, delta.suffixLength());
+        assertEquals("slow", delta.inserted());
+        assertEquals("the slow brown fox", delta.apply("the quick brown fox"));
+    }
+
+    @Test
+    public void apply_WhenEditsAreChained_ShouldRebuildEveryVersion() {
+        var versions = new String[]{null, "", "abc", "abcabc", "abXabc", "Xabc", "Xabc", "aaaa", "aa", "aaa", null};
+        for (int index = 1; index < versions.length; index++) {
+            var delta = TextDelta.diff(versions[index - 1], versions[index]);
+            var expected = versions[index] == null ? "" : versions[index];
+            assertEquals(expected, delta.apply(versions[index - 1]), "Edit " + index + " doesn't match");
+        }
+    }
+
+    @Test
+    public void diff_WhenEditIsInsideASurrogatePair_ShouldKeepThePairWhole() {
+        var highChanged = TextDelta.diff("a\uD83D\uDE00b", "a\uD83D\uDE03b");
+        var lowShared = TextDelta.diff("x\uD800\uDC00", "x\uD801\uDC00");
+
+        assertEquals(1, highChanged.prefixLength());
+        assertEquals(1, highChanged.suffixLength());
+        assertEquals("\uD83D\uDE03", highChanged.inserted());
+        assertEquals("a\uD83D\uDE03b", highChanged.apply("a\uD83D\uDE00b"));
+        assertEquals(0, lowShared.suffixLength());
+        assertEquals("\uD801\uDC00", lowShared.inserted());
+        assertEquals("x\uD801\uDC00", lowShared.apply("x\uD800\uDC00"));
+        assertFalse(Character.isLowSurrogate(lowShared.inserted().charAt(0)));
+    }
+
+}
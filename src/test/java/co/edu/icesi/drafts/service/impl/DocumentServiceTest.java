@@ -1,19 +1,33 @@
 package co.edu.icesi.drafts.service.impl;
 
+import co.edu.icesi.drafts.autosave.IcesiDocumentAutosaveBuffer;
+import co.edu.icesi.drafts.cache.IcesiUserCache;
 import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentSummaryDTO;
 import co.edu.icesi.drafts.error.exception.IcesiErrorDetail;
 import co.edu.icesi.drafts.error.exception.IcesiException;
+import co.edu.icesi.drafts.index.IcesiDocumentReadModel;
+import co.edu.icesi.drafts.index.IcesiDocumentSearchIndex;
+import co.edu.icesi.drafts.index.IcesiDocumentStatusCounters;
+import co.edu.icesi.drafts.index.IcesiDocumentTitleIndex;
 import co.edu.icesi.drafts.mapper.IcesiDocumentMapper;
 import co.edu.icesi.drafts.mapper.IcesiDocumentMapperImpl;
 import co.edu.icesi.drafts.model.IcesiDocument;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
 import co.edu.icesi.drafts.model.IcesiUser;
 import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
 import co.edu.icesi.drafts.repository.IcesiUserRepository;
+import co.edu.icesi.drafts.revision.IcesiDocumentRevisionRecorder;
 import co.edu.icesi.drafts.service.IcesiDocumentService;
+import co.edu.icesi.drafts.store.IcesiApprovedDocumentStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -36,7 +50,11 @@ public class DocumentServiceTest {
         documentRepository = mock(IcesiDocumentRepository.class);
         documentMapper = spy(IcesiDocumentMapperImpl.class);
         userRepository = mock(IcesiUserRepository.class);
-        documentService = new IcesiDocumentServiceImpl(userRepository, documentRepository, documentMapper);
+        documentService = new IcesiDocumentServiceImpl(new IcesiUserCache(userRepository, 10_000, Duration.ofMinutes(10)), documentRepository, documentMapper,
+                new IcesiDocumentTitleIndex(documentRepository), mock(IcesiDocumentSearchIndex.class), mock(IcesiDocumentStatusCounters.class),
+                mock(IcesiDocumentReadModel.class), mock(IcesiApprovedDocumentStore.class), mock(IcesiDocumentAutosaveBuffer.class),
+                mock(IcesiDocumentRevisionRecorder.class), mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry());
     }
 
     @Test
@@ -108,8 +126,8 @@ public class DocumentServiceTest {
         var documents = defaultDocuments();
         var user = defaultUser();
 
-        when(userRepository.findById(any())).thenReturn(Optional.of(user));
-        when(documentRepository.findByTitle(any())).thenReturn(Optional.empty());
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+        when(documentRepository.findExistingTitles(any())).thenReturn(List.of());
 
         documentService.createDocuments(documentsDTO);
 
@@ -132,9 +150,8 @@ public class DocumentServiceTest {
                 .build());
         var user = defaultUser();
 
-        when(userRepository.findById(any())).thenReturn(Optional.of(user));
-        when(documentRepository.findByTitle("Some title")).thenReturn(Optional.of(defaultDocument()));
-        when(documentRepository.findByTitle("Some title1")).thenReturn(Optional.of(defaultDocument()));
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+        when(documentRepository.findExistingTitles(any())).thenReturn(List.of("Some title", "Some title1"));
 
         var exception = assertThrows(IcesiException.class, () -> documentService.createDocuments(documentsDTO));
 
@@ -163,9 +180,10 @@ public class DocumentServiceTest {
                 .build());
         var user = defaultUser();
 
-        when(userRepository.findById(UUID.fromString("08a4db02-6625-40ee-b782-088add3a494f"))).thenReturn(Optional.empty());
-        when(userRepository.findById(UUID.fromString("d36dec17-5c40-461c-b168-9c6f59924db0"))).thenReturn(Optional.of(defaultUser()));
-        when(documentRepository.findByTitle(any())).thenReturn(Optional.empty());
+        var foundUser = defaultUser();
+        foundUser.setIcesiUserId(UUID.fromString("d36dec17-5c40-461c-b168-9c6f59924db0"));
+        when(userRepository.findAllById(any())).thenReturn(List.of(foundUser));
+        when(documentRepository.findExistingTitles(any())).thenReturn(List.of());
 
         var exception = assertThrows(IcesiException.class, () -> documentService.createDocuments(documentsDTO));
 
@@ -193,9 +211,8 @@ public class DocumentServiceTest {
                 .userId(UUID.fromString("d36dec17-5c40-461c-b168-9c6f59924db0"))
                 .build());
         var user = defaultUser();
-        when(userRepository.findById(UUID.fromString("08a4db02-6625-40ee-b782-088add3a494f"))).thenReturn(Optional.of(user));
-        when(userRepository.findById(UUID.fromString("d36dec17-5c40-461c-b168-9c6f59924db0"))).thenReturn(Optional.empty());
-        when(documentRepository.findByTitle("Some title")).thenReturn(Optional.of(defaultDocument()));
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+        when(documentRepository.findExistingTitles(any())).thenReturn(List.of("Some title"));
 
         var exception = assertThrows(IcesiException.class, () -> documentService.createDocuments(documentsDTO));
 
@@ -245,6 +262,21 @@ public class DocumentServiceTest {
         );
     }
 
+    @Test
+    public void forEachDocument_WhenReadModelIsNotReady_ShouldStreamFromTheRepository() {
+        var summaries = List.of(
+                IcesiDocumentSummaryDTO.builder().icesiDocumentId(UUID.randomUUID()).status(IcesiDocumentStatus.DRAFT).build(),
+                IcesiDocumentSummaryDTO.builder().icesiDocumentId(UUID.randomUUID()).status(IcesiDocumentStatus.DRAFT).build()
+        );
+        when(documentRepository.streamDocumentSummariesByStatus(IcesiDocumentStatus.DRAFT)).thenReturn(summaries.stream());
+        var streamed = new ArrayList<IcesiDocumentSummaryDTO>();
+
+        documentService.forEachDocument(IcesiDocumentStatus.DRAFT, streamed::add);
+
+        assertEquals(summaries, streamed);
+        verify(documentRepository, never()).findDocumentSummaryPageByStatus(any(), any());
+    }
+
     private IcesiDocumentDTO defaultDocumentDTO() {
         return IcesiDocumentDTO.builder()
                 .icesiDocumentId(UUID.fromString("2dc074a1-2100-4d49-9823-aa12de103e70"))
@@ -0,0 +1,100 @@
+package co.edu.icesi.drafts.service.impl;
+
+import co.edu.icesi.drafts.dto.IcesiExportFormat;
+import co.edu.icesi.drafts.model.CompressedTextConverter;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.model.IcesiUser;
+import co.edu.icesi.drafts.repository.IcesiDocumentExportRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+@DataJpaTest
+@Import(IcesiDocumentExportRepository.class)
+public class IcesiDocumentExportServiceImplTest {
+
+    private static final UUID PLAIN_ID = UUID.fromString("0189f7a2-4c1e-7000-8000-000000000001");
+
+    private static final UUID QUOTED_ID = UUID.fromString("0189f7a2-4c1e-7000-8000-000000000002");
+
+    private static final UUID APPROVED_ID = UUID.fromString("0189f7a2-4c1e-7000-8000-000000000003");
+
+    private static final Instant CREATED_AT = Instant.parse("2024-01-02T03:04:05Z");
+
+    private static final String LONG_TEXT = "lorem ipsum ".repeat(100);
+
+    @Autowired
+    private IcesiDocumentExportRepository exportRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private IcesiDocumentExportServiceImpl exportService;
+
+    private UUID userId;
+
+    @BeforeEach
+    public void init() {
+        exportService = new IcesiDocumentExportServiceImpl(exportRepository, new ObjectMapper());
+        userId = entityManager.persistAndFlush(IcesiUser.builder().firstName("John").email("john@email.com").build()).getIcesiUserId();
+        insert(PLAIN_ID, "Plain", "simple text", IcesiDocumentStatus.DRAFT, 0);
+        insert(QUOTED_ID, "Budget, \"Q1\"", "line one\nline two, \"quoted\"", IcesiDocumentStatus.REVISION, 2);
+        insert(APPROVED_ID, "Approved", LONG_TEXT, IcesiDocumentStatus.APPROVED, 5);
+    }
+
+    @Test
+    public void exportDocuments_WhenFormatIsCsv_ShouldQuoteFieldsAndDecodeIdsAndText() {
+        var output = new ByteArrayOutputStream();
+
+        exportService.exportDocuments(IcesiExportFormat.CSV, null, null, null, null, output);
+
+        var expected = "icesiDocumentId,title,status,userId,version,createdAt,text\r\n" +
+                PLAIN_ID + ",Plain,DRAFT," + userId + ",0,2024-01-02T03:04:05Z,simple text\r\n" +
+                QUOTED_ID + ",\"Budget, \"\"Q1\"\"\",REVISION," + userId + ",2,2024-01-02T03:04:05Z,\"line one\nline two, \"\"quoted\"\"\"\r\n" +
+                APPROVED_ID + ",Approved,APPROVED," + userId + ",5,2024-01-02T03:04:05Z," + LONG_TEXT + "\r\n";
+        assertArrayEquals(expected.getBytes(UTF_8), output.toByteArray());
+    }
+
+    @Test
+    public void exportDocuments_WhenStatusIsGiven_ShouldExportOnlyMatchingDocuments() {
+        var output = new ByteArrayOutputStream();
+
+        exportService.exportDocuments(IcesiExportFormat.CSV, IcesiDocumentStatus.APPROVED, userId, null, null, output);
+
+        var expected = "icesiDocumentId,title,status,userId,version,createdAt,text\r\n" +
+                APPROVED_ID + ",Approved,APPROVED," + userId + ",5,2024-01-02T03:04:05Z," + LONG_TEXT + "\r\n";
+        assertArrayEquals(expected.getBytes(UTF_8), output.toByteArray());
+    }
+
+    private void insert(UUID documentId, String title, String text, IcesiDocumentStatus status, long version) {
+        jdbcTemplate.update("insert into icesi_document (icesi_document_id, title, text, status, icesi_user_documents, version, created_at) " +
+                        "values (?, ?, ?, ?, ?, ?, ?)",
+                toBytes(documentId), title, CompressedTextConverter.compress(text), status.name(), toBytes(userId), version,
+                Timestamp.from(CREATED_AT));
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+}
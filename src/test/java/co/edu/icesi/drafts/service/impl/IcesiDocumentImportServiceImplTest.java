@@ -0,0 +1,129 @@
+package co.edu.icesi.drafts.service.impl;
+
+import co.edu.icesi.drafts.dto.IcesiImportJobDTO;
+import co.edu.icesi.drafts.dto.IcesiImportJobStatus;
+import co.edu.icesi.drafts.error.exception.IcesiException;
+import co.edu.icesi.drafts.service.IcesiDocumentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import javax.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class IcesiDocumentImportServiceImplTest {
+
+    private static final String USER_ID = "fd127023-e154-4ff2-a9e2-fbd648735d80";
+
+    @TempDir
+    Path spoolDirectory;
+
+    private IcesiDocumentService documentService;
+
+    private IcesiDocumentImportServiceImpl importService;
+
+    @BeforeEach
+    public void init() {
+        documentService = mock(IcesiDocumentService.class);
+        when(documentService.importDocuments(any())).thenReturn(Map.of());
+        importService = new IcesiDocumentImportServiceImpl(documentService, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), 2, 1, 8, 2, Duration.ofHours(1),
+                1024, spoolDirectory.toString());
+    }
+
+    @AfterEach
+    public void shutdown() {
+        importService.shutdown();
+    }
+
+    @Test
+    public void startImport_WhenLinesAreValid_ShouldImportInChunksAndDeleteTheSpoolFile() throws Exception {
+        var ndjson = IntStream.range(0, 5)
+                .mapToObj(index -> document("Imported " + index))
+                .collect(Collectors.joining("\n"));
+
+        var job = awaitFinished(importService.startImport(stream(ndjson)));
+
+        assertEquals(IcesiImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(5, job.getLinesRead());
+        assertEquals(5, job.getImported());
+        verify(documentService, times(3)).importDocuments(any());
+        assertSpoolIsEmpty();
+    }
+
+    @Test
+    public void startImport_WhenManyLinesFail_ShouldKeepOnlyMaxLineErrors() throws Exception {
+        var ndjson = "not json\n{\"title\":\"\",\"status\":\"DRAFT\"}\n{\n" + document("Valid");
+
+        var job = awaitFinished(importService.startImport(stream(ndjson)));
+
+        assertEquals(IcesiImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(3, job.getFailed());
+        assertEquals(1, job.getImported());
+        assertEquals(2, job.getErrors().size());
+        assertEquals(1L, job.getErrors().get(0).getLine());
+        assertTrue(job.isErrorsTruncated());
+    }
+
+    @Test
+    public void startImport_WhenBodyIsLargerThanMaxBytes_ShouldRejectWith413AndDeleteTheSpoolFile() throws Exception {
+        var ndjson = IntStream.range(0, 50)
+                .mapToObj(index -> document("Too large " + index))
+                .collect(Collectors.joining("\n"));
+
+        var exception = assertThrows(IcesiException.class, () -> importService.startImport(stream(ndjson)));
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exception.getError().getStatus());
+        assertEquals("ERR_413", exception.getError().getDetails().get(0).getErrorCode());
+        verifyNoInteractions(documentService);
+        assertSpoolIsEmpty();
+    }
+
+    private IcesiImportJobDTO awaitFinished(IcesiImportJobDTO started) throws InterruptedException {
+        var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        var job = importService.getImport(started.getJobId().toString());
+        while (job.getFinishedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = importService.getImport(started.getJobId().toString());
+        }
+        return job;
+    }
+
+    private void assertSpoolIsEmpty() throws IOException, InterruptedException {
+        var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (spooledFiles() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, spooledFiles());
+    }
+
+    private long spooledFiles() throws IOException {
+        try (var files = Files.list(spoolDirectory)) {
+            return files.count();
+        }
+    }
+
+    private ByteArrayInputStream stream(String ndjson) {
+        return new ByteArrayInputStream(ndjson.getBytes(UTF_8));
+    }
+
+    private String document(String title) {
+        return "{\"title\":\"" + title + "\",\"text\":\"text\",\"status\":\"DRAFT\",\"userId\":\"" + USER_ID + "\"}";
+    }
+
+}
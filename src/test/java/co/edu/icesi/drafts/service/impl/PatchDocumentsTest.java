@@ -0,0 +1,105 @@
+package co.edu.icesi.drafts.service.impl;
+
+import co.edu.icesi.drafts.autosave.IcesiDocumentAutosaveBuffer;
+import co.edu.icesi.drafts.cache.IcesiUserCache;
+import co.edu.icesi.drafts.dto.IcesiDocumentBatchPatchDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.index.IcesiDocumentReadModel;
+import co.edu.icesi.drafts.index.IcesiDocumentSearchIndex;
+import co.edu.icesi.drafts.index.IcesiDocumentStatusCounters;
+import co.edu.icesi.drafts.index.IcesiDocumentTitleIndex;
+import co.edu.icesi.drafts.mapper.IcesiDocumentMapper;
+import co.edu.icesi.drafts.mapper.IcesiDocumentMapperImpl;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import co.edu.icesi.drafts.repository.IcesiUserRepository;
+import co.edu.icesi.drafts.revision.IcesiDocumentRevisionRecorder;
+import co.edu.icesi.drafts.service.IcesiDocumentService;
+import co.edu.icesi.drafts.store.IcesiApprovedDocumentStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class PatchDocumentsTest {
+
+    private IcesiDocumentService documentService;
+
+    private IcesiDocumentRepository documentRepository;
+
+    @BeforeEach
+    public void init() {
+        documentRepository = mock(IcesiDocumentRepository.class);
+        IcesiDocumentMapper documentMapper = spy(IcesiDocumentMapperImpl.class);
+        IcesiUserRepository userRepository = mock(IcesiUserRepository.class);
+        documentService = new IcesiDocumentServiceImpl(new IcesiUserCache(userRepository, 10_000, Duration.ofMinutes(10)), documentRepository, documentMapper,
+                new IcesiDocumentTitleIndex(documentRepository), mock(IcesiDocumentSearchIndex.class), mock(IcesiDocumentStatusCounters.class),
+                mock(IcesiDocumentReadModel.class), mock(IcesiApprovedDocumentStore.class), mock(IcesiDocumentAutosaveBuffer.class),
+                mock(IcesiDocumentRevisionRecorder.class), mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void patchDocuments_WhenIdsAreMixed_ShouldReturnOutcomePerIdAndUpdateValidOnesInOneStatement() {
+        var revision = defaultDocument("2dc074a1-2100-4d49-9823-aa12de103e70", IcesiDocumentStatus.REVISION);
+        var approved = defaultDocument("5b1c0a53-8f1e-4f5e-9c4b-2f4cbb0f6a11", IcesiDocumentStatus.APPROVED);
+        var missingId = UUID.fromString("d36dec17-0d9a-4bb5-9a4b-4d3f9e0c1b22");
+        when(documentRepository.findDocumentDTOsByIds(any())).thenReturn(List.of(revision, approved));
+        when(documentRepository.updateStatus(any(), eq(IcesiDocumentStatus.REVISION), eq(IcesiDocumentStatus.APPROVED))).thenReturn(1);
+        var patch = IcesiDocumentBatchPatchDTO.builder()
+                .ids(List.of(revision.getIcesiDocumentId(), approved.getIcesiDocumentId(), missingId))
+                .status(IcesiDocumentStatus.APPROVED)
+                .build();
+
+        var results = documentService.patchDocuments(patch);
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isUpdated());
+        assertEquals(IcesiDocumentStatus.APPROVED, results.get(0).getStatus());
+        assertEquals(2L, results.get(0).getVersion());
+        assertFalse(results.get(1).isUpdated(), "APPROVED to APPROVED without changes is skipped");
+        assertNull(results.get(1).getErrors());
+        assertFalse(results.get(2).isUpdated());
+        assertEquals("ERR_404", results.get(2).getErrors().get(0).getErrorCode());
+        verify(documentRepository, times(1)).updateStatus(List.of(revision.getIcesiDocumentId()),
+                IcesiDocumentStatus.REVISION, IcesiDocumentStatus.APPROVED);
+        verify(documentRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    public void patchDocuments_WhenTransitionIsIllegal_ShouldUpdateNothing() {
+        var approved = defaultDocument("5b1c0a53-8f1e-4f5e-9c4b-2f4cbb0f6a11", IcesiDocumentStatus.APPROVED);
+        when(documentRepository.findDocumentDTOsByIds(any())).thenReturn(List.of(approved));
+        var patch = IcesiDocumentBatchPatchDTO.builder()
+                .ids(List.of(approved.getIcesiDocumentId()))
+                .status(IcesiDocumentStatus.DRAFT)
+                .build();
+
+        var results = documentService.patchDocuments(patch);
+
+        assertFalse(results.get(0).isUpdated());
+        assertEquals("document can't move from APPROVED to DRAFT", results.get(0).getErrors().get(0).getErrorMessage());
+        verify(documentRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    private IcesiDocumentDTO defaultDocument(String documentId, IcesiDocumentStatus status) {
+        return IcesiDocumentDTO.builder()
+                .icesiDocumentId(UUID.fromString(documentId))
+                .title("Title " + documentId)
+                .text("loreipsum")
+                .status(status)
+                .userId(UUID.fromString("08a4db02-6625-40ee-b782-088add3a494f"))
+                .version(1L)
+                .build();
+    }
+}
@@ -1,16 +1,37 @@
 package co.edu.icesi.drafts.service.impl;
 
+import co.edu.icesi.drafts.autosave.IcesiDocumentAutosaveBuffer;
+import co.edu.icesi.drafts.cache.IcesiUserCache;
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.error.exception.IcesiException;
+import co.edu.icesi.drafts.index.IcesiDocumentReadModel;
+import co.edu.icesi.drafts.index.IcesiDocumentSearchIndex;
+import co.edu.icesi.drafts.index.IcesiDocumentStatusCounters;
+import co.edu.icesi.drafts.index.IcesiDocumentTitleIndex;
 import co.edu.icesi.drafts.mapper.IcesiDocumentMapper;
 import co.edu.icesi.drafts.mapper.IcesiDocumentMapperImpl;
+import co.edu.icesi.drafts.model.IcesiDocument;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.model.IcesiUser;
 import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
 import co.edu.icesi.drafts.repository.IcesiUserRepository;
+import co.edu.icesi.drafts.revision.IcesiDocumentRevisionRecorder;
 import co.edu.icesi.drafts.service.IcesiDocumentService;
+import co.edu.icesi.drafts.store.IcesiApprovedDocumentStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import static org.junit.jupiter.api.Assertions.fail;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.spy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 public class UpdateDocumentTest {
 
@@ -28,12 +49,81 @@ public class UpdateDocumentTest {
         documentRepository = mock(IcesiDocumentRepository.class);
         documentMapper = spy(IcesiDocumentMapperImpl.class);
         userRepository = mock(IcesiUserRepository.class);
-        documentService = new IcesiDocumentServiceImpl(userRepository, documentRepository, documentMapper);
+        documentService = new IcesiDocumentServiceImpl(new IcesiUserCache(userRepository, 10_000, Duration.ofMinutes(10)), documentRepository, documentMapper,
+                new IcesiDocumentTitleIndex(documentRepository), mock(IcesiDocumentSearchIndex.class), mock(IcesiDocumentStatusCounters.class),
+                mock(IcesiDocumentReadModel.class), mock(IcesiApprovedDocumentStore.class), mock(IcesiDocumentAutosaveBuffer.class),
+                mock(IcesiDocumentRevisionRecorder.class), mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void updateDocument_WhenDocumentIsApproved_ShouldThrowException(){
+        var document = defaultDocument();
+        document.setStatus(IcesiDocumentStatus.APPROVED);
+        when(documentRepository.findById(document.getIcesiDocumentId())).thenReturn(Optional.of(document));
+        var documentDTO = IcesiDocumentDTO.builder()
+                .title("Some title")
+                .text("new text")
+                .status(IcesiDocumentStatus.APPROVED)
+                .build();
+
+        var exception = assertThrows(IcesiException.class,
+                () -> documentService.updateDocument(document.getIcesiDocumentId().toString(), documentDTO),
+                "No exception was thrown");
+
+        var details = exception.getError().getDetails();
+        assertEquals(1, details.size());
+        var detail = details.get(0);
+        assertEquals("ERR_NOT_EDITABLE", detail.getErrorCode(), "Code doesn't match");
+        assertEquals("field text can't be modified when document is APPROVED", detail.getErrorMessage(), "Error message doesn't match");
+        verify(documentRepository, never()).saveAndFlush(any());
     }
 
     @Test
-    public void TestUpdate_WhenDocumentIsOnApprovedCantBeModified(){
-        //TODO implement test!
-        fail();
+    public void autosaveDocument_WhenDocumentIsApproved_ShouldThrowException(){
+        var documentId = UUID.randomUUID();
+        when(documentRepository.findStatusById(documentId)).thenReturn(Optional.of(IcesiDocumentStatus.APPROVED));
+
+        var exception = assertThrows(IcesiException.class,
+                () -> documentService.autosaveDocument(documentId.toString(), "new text"),
+                "No exception was thrown");
+
+        var details = exception.getError().getDetails();
+        assertEquals(1, details.size());
+        assertEquals("ERR_NOT_EDITABLE", details.get(0).getErrorCode(), "Code doesn't match");
+    }
+
+    @Test
+    public void updateDocument_WhenDraftIsApprovedWithoutRevision_ShouldThrowException(){
+        var document = defaultDocument();
+        when(documentRepository.findById(document.getIcesiDocumentId())).thenReturn(Optional.of(document));
+        var documentDTO = IcesiDocumentDTO.builder()
+                .title("Some title")
+                .text("loreipsum")
+                .status(IcesiDocumentStatus.APPROVED)
+                .build();
+
+        var exception = assertThrows(IcesiException.class,
+                () -> documentService.updateDocument(document.getIcesiDocumentId().toString(), documentDTO),
+                "No exception was thrown");
+
+        var details = exception.getError().getDetails();
+        assertEquals(1, details.size());
+        var detail = details.get(0);
+        assertEquals("ERR_INVALID_TRANSITION", detail.getErrorCode(), "Code doesn't match");
+        assertEquals("document can't move from DRAFT to APPROVED", detail.getErrorMessage(), "Error message doesn't match");
+        verify(documentRepository, never()).saveAndFlush(any());
+    }
+
+    private IcesiDocument defaultDocument() {
+        return IcesiDocument.builder()
+                .icesiDocumentId(UUID.fromString("2dc074a1-2100-4d49-9823-aa12de103e70"))
+                .title("Some title")
+                .text("loreipsum")
+                .status(IcesiDocumentStatus.DRAFT)
+                .icesiUser(IcesiUser.builder()
+                        .icesiUserId(UUID.fromString("08a4db02-6625-40ee-b782-088add3a494f"))
+                        .build())
+                .build();
     }
 }
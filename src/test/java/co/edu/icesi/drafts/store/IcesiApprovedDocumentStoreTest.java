@@ -0,0 +1,175 @@
+package co.edu.icesi.drafts.store;
+
+import co.edu.icesi.drafts.dto.IcesiDocumentDTO;
+import co.edu.icesi.drafts.dto.IcesiDocumentSummaryDTO;
+import co.edu.icesi.drafts.event.IcesiDocumentChange;
+import co.edu.icesi.drafts.event.IcesiDocumentsChangedEvent;
+import co.edu.icesi.drafts.model.IcesiDocumentStatus;
+import co.edu.icesi.drafts.repository.IcesiDocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class IcesiApprovedDocumentStoreTest {
+
+    private static final UUID USER_ID = UUID.fromString("fd127023-e154-4ff2-a9e2-fbd648735d80");
+
+    @TempDir
+    Path directory;
+
+    private IcesiDocumentRepository documentRepository;
+
+    @BeforeEach
+    public void init() {
+        documentRepository = mock(IcesiDocumentRepository.class);
+    }
+
+    @Test
+    public void onDocumentsChanged_WhenDocumentIsApproved_ShouldAppendItAndSkipDrafts() {
+        var store = open(4096);
+        var approved = document(1, IcesiDocumentStatus.APPROVED, "approved text");
+        var draft = document(2, IcesiDocumentStatus.DRAFT, "draft text");
+
+        store.onDocumentsChanged(changed(approved, draft));
+
+        assertEquals(approved, store.find(approved.getIcesiDocumentId()).orElseThrow());
+        assertEquals(3L, store.findVersion(approved.getIcesiDocumentId()).orElseThrow());
+        assertTrue(store.find(draft.getIcesiDocumentId()).isEmpty());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void open_WhenSegmentsMatchTheDatabase_ShouldReloadThemWithoutRebuilding() {
+        var first = document(1, IcesiDocumentStatus.APPROVED, "first");
+        var second = document(2, IcesiDocumentStatus.APPROVED, null);
+        var store = open(4096);
+        store.onDocumentsChanged(changed(first, second));
+        store.close();
+        approvedInDatabase(first, second);
+
+        var reopened = open(4096);
+
+        assertEquals(first, reopened.find(first.getIcesiDocumentId()).orElseThrow());
+        assertEquals(second, reopened.find(second.getIcesiDocumentId()).orElseThrow());
+        verify(documentRepository, never()).findDocumentDTOPageByStatus(any(), any());
+    }
+
+    @Test
+    public void open_WhenVersionOnDiskIsStale_ShouldRebuildFromTheDatabase() {
+        var stale = document(1, IcesiDocumentStatus.APPROVED, "stale");
+        var store = open(4096);
+        store.onDocumentsChanged(changed(stale));
+        store.close();
+        var current = stale.toBuilder().text("current").version(4L).build();
+        approvedInDatabase(current);
+        when(documentRepository.findDocumentDTOPageByStatus(eq(IcesiDocumentStatus.APPROVED), any())).thenReturn(List.of(current));
+
+        var reopened = open(4096);
+
+        assertEquals(current, reopened.find(current.getIcesiDocumentId()).orElseThrow());
+    }
+
+    @Test
+    public void open_WhenRecordChecksumDoesNotMatch_ShouldTruncateTheSegmentAtThatRecord() throws IOException {
+        var first = document(1, IcesiDocumentStatus.APPROVED, "first");
+        var second = document(2, IcesiDocumentStatus.APPROVED, "second");
+        var store = open(4096);
+        store.onDocumentsChanged(changed(first, second));
+        store.close();
+        corruptRecordAfter(directory.resolve("approved-000000.seg"));
+        approvedInDatabase(first);
+
+        var reopened = open(4096);
+
+        assertEquals(1, reopened.size());
+        assertEquals(first, reopened.find(first.getIcesiDocumentId()).orElseThrow());
+        assertTrue(reopened.find(second.getIcesiDocumentId()).isEmpty());
+        verify(documentRepository, never()).findDocumentDTOPageByStatus(any(), any());
+    }
+
+    @Test
+    public void onDocumentsChanged_WhenSegmentIsFull_ShouldRollOverToANewSegment() throws IOException {
+        var documents = IntStream.rangeClosed(1, 6)
+                .mapToObj(index -> document(index, IcesiDocumentStatus.APPROVED, "text " + index))
+                .toArray(IcesiDocumentDTO[]::new);
+        var store = open(256);
+
+        store.onDocumentsChanged(changed(documents));
+        store.close();
+        approvedInDatabase(documents);
+        var reopened = open(256);
+
+        assertTrue(segmentCount() > 1);
+        for (var document : documents) {
+            assertEquals(document, reopened.find(document.getIcesiDocumentId()).orElseThrow());
+        }
+        verify(documentRepository, never()).findDocumentDTOPageByStatus(any(), any());
+    }
+
+    private IcesiApprovedDocumentStore open(int segmentSize) {
+        var store = new IcesiApprovedDocumentStore(documentRepository, directory.toString(), segmentSize, true);
+        store.open();
+        return store;
+    }
+
+    private void approvedInDatabase(IcesiDocumentDTO... documents) {
+        when(documentRepository.countByStatus(IcesiDocumentStatus.APPROVED)).thenReturn((long) documents.length);
+        when(documentRepository.findDocumentSummaryPageByStatus(eq(IcesiDocumentStatus.APPROVED), any())).thenReturn(
+                Arrays.stream(documents)
+                        .map(document -> IcesiDocumentSummaryDTO.builder()
+                                .icesiDocumentId(document.getIcesiDocumentId())
+                                .title(document.getTitle())
+                                .status(document.getStatus())
+                                .userId(document.getUserId())
+                                .version(document.getVersion())
+                                .build())
+                        .toList());
+    }
+
+    private void corruptRecordAfter(Path segment) throws IOException {
+        try (var channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var header = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(header, 0);
+            var secondRecord = Integer.BYTES * 2 + header.flip().getInt();
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), secondRecord + Integer.BYTES * 2 + Long.BYTES * 4);
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private IcesiDocumentsChangedEvent changed(IcesiDocumentDTO... documents) {
+        return new IcesiDocumentsChangedEvent(Arrays.stream(documents).map(IcesiDocumentChange::created).toList());
+    }
+
+    private IcesiDocumentDTO document(int index, IcesiDocumentStatus status, String text) {
+        return IcesiDocumentDTO.builder()
+                .icesiDocumentId(UUID.fromString("0189f7a2-4c1e-7000-8000-%012d".formatted(index)))
+                .title("Approved " + index)
+                .text(text)
+                .status(status)
+                .userId(USER_ID)
+                .version(3L)
+                .build();
+    }
+
+}